@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 public abstract class BaseConfig<T extends BaseInformation> extends Config<ApplicationId> {
@@ -34,10 +35,42 @@ public abstract class BaseConfig<T extends BaseInformation> extends Config<Appli
     protected static final String CACHE = "cache";
     protected static final String CACHE_SIZE = "maxsize";
     protected static final String CACHE_TTL = "ttl";
+    protected static final String NEGATIVE_CACHE = "negative";
+    protected static final String STALE_CACHE = "stale";
+    protected static final String CACHE_REFRESH = "refresh";
+    protected static final String CACHE_DISTRIBUTED = "distributed";
+    protected static final String OFF_HEAP_CACHE = "offheap";
+    protected static final String OFF_HEAP_CACHE_CAPACITY = "capacity";
+    protected static final String SNAPSHOT = "snapshot";
+    protected static final String SNAPSHOT_INTERVAL = "interval";
+    protected static final String SNAPSHOT_FILE = "file";
     protected static final String URL = "url";
+    protected static final String CONNECT_TIMEOUT = "connectTimeout";
+    protected static final String READ_TIMEOUT = "readTimeout";
+    protected static final String MAX_CONNECTIONS = "maxConnectionsPerHost";
+    protected static final String COMPRESSION = "compression";
+    protected static final String STRICT = "strict";
+    protected static final String RETRY = "retry";
+    protected static final String RETRY_ATTEMPTS = "attempts";
+    protected static final String RETRY_BACKOFF = "backoff";
+    protected static final String CIRCUIT_BREAKER = "circuitBreaker";
+    protected static final String CIRCUIT_BREAKER_FAILURES = "failures";
+    protected static final String CIRCUIT_BREAKER_RESET_TIMEOUT = "resetTimeout";
+    protected static final String WARM_UP = "warmup";
+    protected static final String WARM_UP_IDS = "ids";
+    protected static final String WARM_UP_FILE = "file";
+    protected static final String WARM_UP_PARALLELISM = "parallelism";
     protected static final String ENTRIES = "entries";
+    protected static final String COMPACT_ENTRIES = "compactEntries";
     protected static final String DEFAULT_CACHE_TTL = "PT0S";
     protected static final String ID_SUB_PATTERN = "%s";
+    protected static final String DEFAULT_CONNECT_TIMEOUT = "PT5S";
+    protected static final String DEFAULT_READ_TIMEOUT = "PT10S";
+    protected static final int DEFAULT_MAX_CONNECTIONS = 16;
+    protected static final String DEFAULT_COMPRESSION = "gzip";
+    protected static final int DEFAULT_WARM_UP_PARALLELISM = 4;
+    protected static final String DEFAULT_RETRY_BACKOFF = "PT0.1S";
+    protected static final String DEFAULT_CIRCUIT_BREAKER_RESET_TIMEOUT = "PT30S";
 
     /**
      * Returns Integration URL.
@@ -96,6 +129,269 @@ public abstract class BaseConfig<T extends BaseInformation> extends Config<Appli
         return Duration.parse(cache.path(CACHE_TTL).asText(DEFAULT_CACHE_TTL));
     }
 
+    /**
+     * Returns the age after which a cached entry is reloaded in the background
+     * while the cached value keeps being served.
+     *
+     * @return configured refresh interval or zero if refresh-ahead is disabled
+     */
+    public final Duration getCacheRefresh() {
+        return Duration.parse(this.object.path(INTEGRATION).path(CACHE).path(CACHE_REFRESH)
+                                      .asText(DEFAULT_CACHE_TTL));
+    }
+
+    /**
+     * Returns the maximum number of IDs remembered as not found at the integration URL.
+     *
+     * @return configured negative cache max size or 0 if negative caching is disabled
+     */
+    public final int getNegativeCacheMaxSize() {
+        return this.object.path(INTEGRATION).path(CACHE).path(NEGATIVE_CACHE).path(CACHE_SIZE).asInt(0);
+    }
+
+    /**
+     * Returns the time for which an ID is remembered as not found at the integration URL.
+     *
+     * @return configured negative cache TTL or zero if negative caching is disabled
+     */
+    public final Duration getNegativeCacheTtl() {
+        return Duration.parse(this.object.path(INTEGRATION).path(CACHE).path(NEGATIVE_CACHE).path(CACHE_TTL)
+                                      .asText(DEFAULT_CACHE_TTL));
+    }
+
+    /**
+     * Returns the maximum number of entries kept after they expired from the
+     * cache, to be served while the integration URL is failing.
+     *
+     * @return configured stale cache max size or 0 if serving stale entries is disabled
+     */
+    public final int getStaleCacheMaxSize() {
+        return this.object.path(INTEGRATION).path(CACHE).path(STALE_CACHE).path(CACHE_SIZE).asInt(0);
+    }
+
+    /**
+     * Returns the time for which an entry is kept after it expired from the cache.
+     *
+     * @return configured stale cache TTL or zero if entries are kept until evicted by size
+     */
+    public final Duration getStaleCacheTtl() {
+        return Duration.parse(this.object.path(INTEGRATION).path(CACHE).path(STALE_CACHE).path(CACHE_TTL)
+                                      .asText(DEFAULT_CACHE_TTL));
+    }
+
+    /**
+     * Returns the memory allocated outside of the heap to the information
+     * evicted from the cache to make room for other entries.
+     *
+     * @return configured off-heap cache capacity in bytes or 0 if the off-heap cache is disabled
+     */
+    public final long getOffHeapCacheCapacity() {
+        return this.object.path(INTEGRATION).path(CACHE).path(OFF_HEAP_CACHE).path(OFF_HEAP_CACHE_CAPACITY)
+                .asLong(0);
+    }
+
+    /**
+     * Returns whether the cached information is shared with the other
+     * instances of the cluster.
+     *
+     * @return true if the distributed cache is enabled, false by default
+     */
+    public final boolean isCacheDistributed() {
+        return this.object.path(INTEGRATION).path(CACHE).path(CACHE_DISTRIBUTED).asBoolean(false);
+    }
+
+    /**
+     * Returns the interval at which the cached information is saved to the
+     * snapshot file, to be restored when the application starts.
+     *
+     * @return configured snapshot interval or zero if snapshots are disabled
+     */
+    public final Duration getSnapshotInterval() {
+        return Duration.parse(this.object.path(INTEGRATION).path(CACHE).path(SNAPSHOT).path(SNAPSHOT_INTERVAL)
+                                      .asText(DEFAULT_CACHE_TTL));
+    }
+
+    /**
+     * Returns the path of the file the cached information is saved to.
+     *
+     * @return configured snapshot file or null to use the default location
+     */
+    public final String getSnapshotFile() {
+        JsonNode file = this.object.path(INTEGRATION).path(CACHE).path(SNAPSHOT).path(SNAPSHOT_FILE);
+        return file.isMissingNode() ? null : file.asText();
+    }
+
+    /**
+     * Returns the timeout for establishing a connection to the integration URL.
+     *
+     * @return configured connect timeout or the default
+     */
+    public final Duration getConnectTimeout() {
+        return Duration.parse(this.object.path(INTEGRATION).path(CONNECT_TIMEOUT)
+                                      .asText(DEFAULT_CONNECT_TIMEOUT));
+    }
+
+    /**
+     * Returns the timeout for receiving a response from the integration URL.
+     *
+     * @return configured read timeout or the default
+     */
+    public final Duration getReadTimeout() {
+        return Duration.parse(this.object.path(INTEGRATION).path(READ_TIMEOUT)
+                                      .asText(DEFAULT_READ_TIMEOUT));
+    }
+
+    /**
+     * Returns the maximum number of concurrent connections to the integration
+     * host. The configuration is not valid unless it is positive.
+     *
+     * @return configured maximum number of connections or the default
+     */
+    public final int getMaxConnectionsPerHost() {
+        return this.object.path(INTEGRATION).path(MAX_CONNECTIONS).asInt(DEFAULT_MAX_CONNECTIONS);
+    }
+
+    /**
+     * Returns the compression preferred for the responses of the integration
+     * URL: gzip, deflate or none to request uncompressed responses only.
+     *
+     * @return configured compression or the default
+     */
+    public final String getCompression() {
+        return this.object.path(INTEGRATION).path(COMPRESSION).asText(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Returns whether information fetched from the integration URL with
+     * properties unknown to this version is rejected rather than used with
+     * the unknown properties ignored.
+     *
+     * @return true if strict parsing is enabled, false by default
+     */
+    public final boolean isStrict() {
+        return this.object.path(INTEGRATION).path(STRICT).asBoolean(false);
+    }
+
+    /**
+     * Returns the number of times a request to the integration URL that
+     * failed with a transport error or a server error is retried.
+     *
+     * @return configured number of retries or 0
+     */
+    public final int getRetryAttempts() {
+        return this.object.path(INTEGRATION).path(RETRY).path(RETRY_ATTEMPTS).asInt(0);
+    }
+
+    /**
+     * Returns the base delay before retrying a request to the integration URL.
+     * The delay doubles with each retry and is randomized by up to half.
+     *
+     * @return configured retry backoff or the default
+     */
+    public final Duration getRetryBackoff() {
+        return Duration.parse(this.object.path(INTEGRATION).path(RETRY).path(RETRY_BACKOFF)
+                                      .asText(DEFAULT_RETRY_BACKOFF));
+    }
+
+    /**
+     * Returns the number of consecutive failed requests after which requests
+     * to the integration URL are rejected without being sent.
+     *
+     * @return configured failure threshold or 0 if the circuit breaker is disabled
+     */
+    public final int getCircuitBreakerFailures() {
+        return this.object.path(INTEGRATION).path(CIRCUIT_BREAKER).path(CIRCUIT_BREAKER_FAILURES).asInt(0);
+    }
+
+    /**
+     * Returns the time requests to the integration URL are rejected for once
+     * the circuit breaker opened, before a single request is let through to
+     * probe the URL.
+     *
+     * @return configured reset timeout or the default
+     */
+    public final Duration getCircuitBreakerResetTimeout() {
+        return Duration.parse(this.object.path(INTEGRATION).path(CIRCUIT_BREAKER)
+                                      .path(CIRCUIT_BREAKER_RESET_TIMEOUT)
+                                      .asText(DEFAULT_CIRCUIT_BREAKER_RESET_TIMEOUT));
+    }
+
+    /**
+     * Returns the IDs listed in the configuration to be loaded into the cache at startup.
+     *
+     * @return configured IDs, empty if there are none
+     */
+    public final List<String> getWarmUpIds() {
+        List<String> ids = new ArrayList<>();
+        this.object.path(INTEGRATION).path(WARM_UP).path(WARM_UP_IDS).forEach(id -> ids.add(id.asText()));
+        return ids;
+    }
+
+    /**
+     * Returns the path of a local file listing, one per line, the IDs to be
+     * loaded into the cache at startup.
+     *
+     * @return configured file path or null
+     */
+    public final String getWarmUpFile() {
+        JsonNode file = this.object.path(INTEGRATION).path(WARM_UP).path(WARM_UP_FILE);
+        return file.isMissingNode() ? null : file.asText();
+    }
+
+    /**
+     * Returns the URL of a bulk endpoint returning a JSON array with the IDs
+     * to be loaded into the cache at startup.
+     *
+     * @return configured URL or null
+     * @throws MalformedURLException specified URL not valid
+     */
+    public final URL getWarmUpUrl() throws MalformedURLException {
+        JsonNode url = this.object.path(INTEGRATION).path(WARM_UP).path(URL);
+        return url.isMissingNode() ? null : new URL(url.asText());
+    }
+
+    /**
+     * Returns the maximum number of IDs fetched concurrently while loading the cache at startup.
+     *
+     * @return configured parallelism or the default
+     */
+    public final int getWarmUpParallelism() {
+        return this.object.path(INTEGRATION).path(WARM_UP).path(WARM_UP_PARALLELISM)
+                .asInt(DEFAULT_WARM_UP_PARALLELISM);
+    }
+
+    /**
+     * Returns the JSON of the locally configured entries.
+     *
+     * @return array of configured entries, or a missing node if there are none
+     */
+    public final JsonNode getEntriesJson() {
+        return this.object.path(ENTRIES);
+    }
+
+    /**
+     * Returns whether the locally configured entries are held in serialized
+     * form, trading lookup time for heap on large configurations.
+     *
+     * @return true if the entries are held compactly, false by default
+     */
+    public final boolean isCompactEntries() {
+        return this.object.path(COMPACT_ENTRIES).asBoolean(false);
+    }
+
+    @Override
+    public boolean isValid() {
+        return getMaxConnectionsPerHost() > 0;
+    }
+
     public abstract List<T> getEntries();
 
+    /**
+     * Parses a single locally configured entry, as found in {@link #getEntriesJson()}.
+     *
+     * @param entry JSON of the entry
+     * @return parsed entry, or null if the entry is not valid
+     */
+    public abstract T getEntry(JsonNode entry);
+
 }
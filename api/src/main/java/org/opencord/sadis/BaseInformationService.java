@@ -15,6 +15,11 @@
  */
 package org.opencord.sadis;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 public interface BaseInformationService<T extends BaseInformation> {
 
     /**
@@ -50,5 +55,44 @@ public interface BaseInformationService<T extends BaseInformation> {
      */
     T getfromCache(String id);
 
+    /**
+     * Return the information associated with the given ID without blocking
+     * the caller on a remote lookup. Information that is already cached or
+     * locally configured is returned as an already completed future.
+     *
+     * @param id key to information
+     * @return future completed with the information associated with ID, if available, else with null
+     */
+    default CompletableFuture<T> getAsync(String id) {
+        return CompletableFuture.completedFuture(get(id));
+    }
+
+    /**
+     * Return the information associated with each of the given IDs. IDs for
+     * which no information is available are not included in the result.
+     *
+     * @param ids keys to information
+     * @return information associated with the IDs, keyed by ID
+     */
+    default Map<String, T> getAll(Collection<String> ids) {
+        Map<String, T> result = new HashMap<>();
+        ids.forEach(id -> {
+            T info = get(id);
+            if (info != null) {
+                result.put(id, info);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the statistics of the lookups answered by this service. The
+     * default implementation counts nothing and returns empty statistics.
+     *
+     * @return lookup statistics
+     */
+    default InformationStatistics getStatistics() {
+        return new InformationStatistics.Builder().build();
+    }
 
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis;
+
+import com.google.common.base.MoreObjects;
+
+import java.time.Duration;
+
+/**
+ * Statistics of the lookups answered by an information service, since the
+ * service was started.
+ */
+public final class InformationStatistics {
+
+    private final long size;
+    private final long hitCount;
+    private final long localHitCount;
+    private final long missCount;
+    private final long negativeHitCount;
+    private final long staleHitCount;
+    private final long offHeapHitCount;
+    private final long evictionCount;
+    private final long remoteFetchCount;
+    private final long remoteFailureCount;
+    private final Duration remoteFetchMeanLatency;
+    private final Duration remoteFetch99thLatency;
+
+    private InformationStatistics(Builder builder) {
+        this.size = builder.size;
+        this.hitCount = builder.hitCount;
+        this.localHitCount = builder.localHitCount;
+        this.missCount = builder.missCount;
+        this.negativeHitCount = builder.negativeHitCount;
+        this.staleHitCount = builder.staleHitCount;
+        this.offHeapHitCount = builder.offHeapHitCount;
+        this.evictionCount = builder.evictionCount;
+        this.remoteFetchCount = builder.remoteFetchCount;
+        this.remoteFailureCount = builder.remoteFailureCount;
+        this.remoteFetchMeanLatency = builder.remoteFetchMeanLatency;
+        this.remoteFetch99thLatency = builder.remoteFetch99thLatency;
+    }
+
+    /**
+     * Returns the number of entries currently cached.
+     *
+     * @return cache size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return cache hits
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups answered from the local configuration.
+     *
+     * @return local configuration hits
+     */
+    public long localHitCount() {
+        return localHitCount;
+    }
+
+    /**
+     * Returns the number of lookups that found the information neither in the
+     * cache nor in the local configuration.
+     *
+     * @return misses
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the ratio of lookups answered from the cache or the local
+     * configuration.
+     *
+     * @return hit rate, 1.0 if there was no lookup
+     */
+    public double hitRate() {
+        long lookups = hitCount + localHitCount + missCount;
+        return lookups == 0 ? 1.0 : (double) (hitCount + localHitCount) / lookups;
+    }
+
+    /**
+     * Returns the number of misses answered by the cache of IDs not found at
+     * the remote URL.
+     *
+     * @return negative cache hits
+     */
+    public long negativeHitCount() {
+        return negativeHitCount;
+    }
+
+    /**
+     * Returns the number of lookups answered with information that expired
+     * from the cache, because the remote URL was failing.
+     *
+     * @return stale hits
+     */
+    public long staleHitCount() {
+        return staleHitCount;
+    }
+
+    /**
+     * Returns the number of hits answered by the off-heap cache, holding the
+     * information evicted from the cache because of its size.
+     *
+     * @return off-heap cache hits, included in the hits
+     */
+    public long offHeapHitCount() {
+        return offHeapHitCount;
+    }
+
+    /**
+     * Returns the number of entries evicted from the cache, because of its
+     * size or their TTL.
+     *
+     * @return evictions
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of requests sent to the remote URL.
+     *
+     * @return remote fetches
+     */
+    public long remoteFetchCount() {
+        return remoteFetchCount;
+    }
+
+    /**
+     * Returns the number of requests to the remote URL that failed.
+     *
+     * @return remote failures
+     */
+    public long remoteFailureCount() {
+        return remoteFailureCount;
+    }
+
+    /**
+     * Returns the mean latency of the requests to the remote URL.
+     *
+     * @return mean remote fetch latency
+     */
+    public Duration remoteFetchMeanLatency() {
+        return remoteFetchMeanLatency;
+    }
+
+    /**
+     * Returns the 99th percentile of the latency of the requests to the remote URL.
+     *
+     * @return 99th percentile remote fetch latency
+     */
+    public Duration remoteFetch99thLatency() {
+        return remoteFetch99thLatency;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("size", size)
+                .add("hitCount", hitCount)
+                .add("localHitCount", localHitCount)
+                .add("missCount", missCount)
+                .add("negativeHitCount", negativeHitCount)
+                .add("staleHitCount", staleHitCount)
+                .add("offHeapHitCount", offHeapHitCount)
+                .add("evictionCount", evictionCount)
+                .add("remoteFetchCount", remoteFetchCount)
+                .add("remoteFailureCount", remoteFailureCount)
+                .add("remoteFetchMeanLatency", remoteFetchMeanLatency)
+                .add("remoteFetch99thLatency", remoteFetch99thLatency)
+                .toString();
+    }
+
+    public static final class Builder {
+
+        private long size;
+        private long hitCount;
+        private long localHitCount;
+        private long missCount;
+        private long negativeHitCount;
+        private long staleHitCount;
+        private long offHeapHitCount;
+        private long evictionCount;
+        private long remoteFetchCount;
+        private long remoteFailureCount;
+        private Duration remoteFetchMeanLatency = Duration.ZERO;
+        private Duration remoteFetch99thLatency = Duration.ZERO;
+
+        public Builder setSize(long size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder setHitCount(long hitCount) {
+            this.hitCount = hitCount;
+            return this;
+        }
+
+        public Builder setLocalHitCount(long localHitCount) {
+            this.localHitCount = localHitCount;
+            return this;
+        }
+
+        public Builder setMissCount(long missCount) {
+            this.missCount = missCount;
+            return this;
+        }
+
+        public Builder setNegativeHitCount(long negativeHitCount) {
+            this.negativeHitCount = negativeHitCount;
+            return this;
+        }
+
+        public Builder setStaleHitCount(long staleHitCount) {
+            this.staleHitCount = staleHitCount;
+            return this;
+        }
+
+        public Builder setOffHeapHitCount(long offHeapHitCount) {
+            this.offHeapHitCount = offHeapHitCount;
+            return this;
+        }
+
+        public Builder setEvictionCount(long evictionCount) {
+            this.evictionCount = evictionCount;
+            return this;
+        }
+
+        public Builder setRemoteFetchCount(long remoteFetchCount) {
+            this.remoteFetchCount = remoteFetchCount;
+            return this;
+        }
+
+        public Builder setRemoteFailureCount(long remoteFailureCount) {
+            this.remoteFailureCount = remoteFailureCount;
+            return this;
+        }
+
+        public Builder setRemoteFetchMeanLatency(Duration remoteFetchMeanLatency) {
+            this.remoteFetchMeanLatency = remoteFetchMeanLatency;
+            return this;
+        }
+
+        public Builder setRemoteFetch99thLatency(Duration remoteFetch99thLatency) {
+            this.remoteFetch99thLatency = remoteFetch99thLatency;
+            return this;
+        }
+
+        public InformationStatistics build() {
+            return new InformationStatistics(this);
+        }
+    }
+}
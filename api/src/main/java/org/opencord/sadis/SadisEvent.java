@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis;
+
+import com.google.common.base.MoreObjects;
+import org.onosproject.event.AbstractEvent;
+
+/**
+ * Describes a change of the subscriber and device or bandwidth profile
+ * information known to SADIS. The type of the subject tells which of the
+ * two services the information belongs to.
+ */
+public class SadisEvent extends AbstractEvent<SadisEvent.Type, BaseInformation> {
+
+    /**
+     * Type of SADIS event.
+     */
+    public enum Type {
+        /**
+         * Information was configured locally or fetched from the remote source.
+         */
+        ADDED,
+
+        /**
+         * Information changed in the local configuration or on a refresh or a
+         * new fetch from the remote source.
+         */
+        UPDATED,
+
+        /**
+         * Information was removed from the local configuration.
+         */
+        REMOVED,
+
+        /**
+         * Information fetched from the remote source expired or was evicted
+         * from the cache.
+         */
+        EVICTED
+    }
+
+    private final BaseInformation prevSubject;
+
+    /**
+     * Creates an event of the given type for the given information.
+     *
+     * @param type    event type
+     * @param subject information the event is about
+     */
+    public SadisEvent(Type type, BaseInformation subject) {
+        this(type, subject, null);
+    }
+
+    /**
+     * Creates an event of the given type for the given information, which
+     * replaced the given previous information.
+     *
+     * @param type        event type
+     * @param subject     information the event is about
+     * @param prevSubject information held before the event, or null
+     */
+    public SadisEvent(Type type, BaseInformation subject, BaseInformation prevSubject) {
+        super(type, subject);
+        this.prevSubject = prevSubject;
+    }
+
+    /**
+     * Returns the information held before an update.
+     *
+     * @return previous information, or null
+     */
+    public BaseInformation prevSubject() {
+        return prevSubject;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("type", type())
+                .add("subject", subject())
+                .add("prevSubject", prevSubject)
+                .toString();
+    }
+}
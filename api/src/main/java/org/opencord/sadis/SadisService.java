@@ -15,10 +15,12 @@
  */
 package org.opencord.sadis;
 
+import org.onosproject.event.ListenerService;
+
 /**
  * Subscriber And Device Information Service.
  */
-public interface SadisService {
+public interface SadisService extends ListenerService<SadisEvent, SadisListener> {
 
 
     /**
@@ -28,6 +30,14 @@ public interface SadisService {
      */
     BaseInformationService<SubscriberAndDeviceInformation> getSubscriberInfoService();
 
+    /**
+     * Gets the subscriber service with lookups by circuit ID, remote ID,
+     * hardware identifier, NAS port ID and PON tags.
+     *
+     * @return the service related to the subscribers and access devices
+     */
+    SubscriberAndDeviceInformationService getSubscriberLookupService();
+
     /**
      * Gets the bandwidth profile service.
      *
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis;
+
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.VlanId;
+
+import java.util.Set;
+
+/**
+ * Subscriber and device information service with lookups by secondary keys.
+ * Only information configured locally or currently cached can be found by
+ * these lookups, as the remote URL is only queried by ID.
+ */
+public interface SubscriberAndDeviceInformationService
+        extends BaseInformationService<SubscriberAndDeviceInformation> {
+
+    /**
+     * Returns the information with the given circuit ID.
+     *
+     * @param circuitId circuit ID
+     * @return information with the circuit ID, empty if none is known
+     */
+    Set<SubscriberAndDeviceInformation> getByCircuitId(String circuitId);
+
+    /**
+     * Returns the information with the given remote ID.
+     *
+     * @param remoteId remote ID
+     * @return information with the remote ID, empty if none is known
+     */
+    Set<SubscriberAndDeviceInformation> getByRemoteId(String remoteId);
+
+    /**
+     * Returns the information with the given hardware identifier.
+     *
+     * @param hardwareIdentifier MAC address of the subscriber or device
+     * @return information with the hardware identifier, empty if none is known
+     */
+    Set<SubscriberAndDeviceInformation> getByHardwareIdentifier(MacAddress hardwareIdentifier);
+
+    /**
+     * Returns the information with the given NAS port ID.
+     *
+     * @param nasPortId NAS port ID
+     * @return information with the NAS port ID, empty if none is known
+     */
+    Set<SubscriberAndDeviceInformation> getByNasPortId(String nasPortId);
+
+    /**
+     * Returns the information holding a UNI tag with the given PON C-Tag and S-Tag.
+     *
+     * @param ponCTag PON C-Tag
+     * @param ponSTag PON S-Tag
+     * @return information with the tag pair, empty if none is known
+     */
+    Set<SubscriberAndDeviceInformation> getByPonTags(VlanId ponCTag, VlanId ponSTag);
+
+    /**
+     * Returns the information holding a UNI tag that references the given
+     * bandwidth profile, upstream, downstream or in one of the OLT variants.
+     *
+     * @param bandwidthProfileId ID of the bandwidth profile
+     * @return information referencing the bandwidth profile, empty if none is known
+     */
+    Set<SubscriberAndDeviceInformation> getByBandwidthProfile(String bandwidthProfileId);
+}
@@ -18,6 +18,8 @@ package org.opencord.sadis;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.onlab.packet.VlanId;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -187,6 +189,17 @@ public final class UniTagInformation {
         return isPppoeRequired;
     }
 
+    /**
+     * Returns the bandwidth profiles referenced by this UNI tag, upstream,
+     * downstream and their OLT variants.
+     *
+     * @return IDs of the referenced bandwidth profiles, which may contain nulls
+     */
+    public List<String> bandwidthProfiles() {
+        return Arrays.asList(upstreamBandwidthProfile, downstreamBandwidthProfile,
+                             upstreamOltBandwidthProfile, downstreamOltBandwidthProfile);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
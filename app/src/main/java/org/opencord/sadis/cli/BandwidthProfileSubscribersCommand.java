@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.cli;
+
+import org.apache.karaf.shell.api.action.Argument;
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.onosproject.cli.AbstractShellCommand;
+import org.opencord.sadis.SadisService;
+import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.SubscriberAndDeviceInformationService;
+import org.opencord.sadis.UniTagInformation;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lists the subscribers referencing a bandwidth profile.
+ */
+@Service
+@Command(scope = "onos", name = "bandwidthProfile-subscribers",
+        description = "Lists the subscribers and services referencing a bandwidth profile")
+public class BandwidthProfileSubscribersCommand extends AbstractShellCommand {
+
+    @Argument(index = 0, name = "ID", description = "bandwidthProfile ID", required = true, multiValued = false)
+    String id;
+
+    private SadisService sadisService = get(SadisService.class);
+    private SubscriberAndDeviceInformationService service = sadisService.getSubscriberLookupService();
+
+    @Override
+    protected void doExecute() {
+        Set<SubscriberAndDeviceInformation> subscribers = service.getByBandwidthProfile(id);
+        if (subscribers.isEmpty()) {
+            print("No subscriber references bandwidth profile %s", id);
+            return;
+        }
+        subscribers.forEach(info -> print("id=%s, services=%s", info.id(), info.uniTagList().stream()
+                .filter(uniTag -> uniTag.bandwidthProfiles().contains(id))
+                .map(UniTagInformation::getServiceName)
+                .collect(Collectors.toList())));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.cli;
+
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.onosproject.cli.AbstractShellCommand;
+import org.opencord.sadis.InformationStatistics;
+import org.opencord.sadis.SadisService;
+
+/**
+ * Shows the statistics of the subscriber and bandwidth profile lookups.
+ */
+@Service
+@Command(scope = "onos", name = "sadis-stats",
+        description = "Shows the cache statistics of the subscriber and bandwidth profile lookups")
+public class SadisStatsCommand extends AbstractShellCommand {
+
+    private static final String FORMAT = "%-16s size=%d, hits=%d, localHits=%d, misses=%d, hitRate=%.3f, " +
+            "negativeHits=%d, staleHits=%d, offHeapHits=%d, evictions=%d, remoteFetches=%d, remoteFailures=%d, " +
+            "remoteLatencyMean=%.1fms, remoteLatency99th=%.1fms";
+
+    private SadisService sadisService = get(SadisService.class);
+
+    @Override
+    protected void doExecute() {
+        print("subscriber", sadisService.getSubscriberInfoService().getStatistics());
+        print("bandwidthProfile", sadisService.getBandwidthProfileService().getStatistics());
+    }
+
+    private void print(String service, InformationStatistics stats) {
+        print(FORMAT, service, stats.size(), stats.hitCount(), stats.localHitCount(), stats.missCount(),
+              stats.hitRate(), stats.negativeHitCount(), stats.staleHitCount(), stats.offHeapHitCount(),
+              stats.evictionCount(), stats.remoteFetchCount(), stats.remoteFailureCount(),
+              stats.remoteFetchMeanLatency().toNanos() / 1e6, stats.remoteFetch99thLatency().toNanos() / 1e6);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import org.opencord.sadis.BandwidthProfileInformation;
+
+/**
+ * Binary codec of bandwidth profile information.
+ * <p>
+ * Format version 1: flags (peak, committed and exceeded burst sizes present),
+ * ID, peak information rate and burst size, committed information rate and
+ * burst size, exceeded information rate and burst size, assured and
+ * guaranteed information rates.
+ */
+public final class BandwidthProfileBinaryCodec extends BinaryCodec<BandwidthProfileInformation> {
+
+    static final int VERSION = 1;
+
+    private static final int PEAK_BURST_SIZE = 1;
+    private static final int COMMITTED_BURST_SIZE = 1 << 1;
+    private static final int EXCEEDED_BURST_SIZE = 1 << 2;
+
+    @Override
+    protected int version() {
+        return VERSION;
+    }
+
+    @Override
+    void write(BandwidthProfileInformation info, Writer out) {
+        out.writeVarInt((info.peakBurstSize() != null ? PEAK_BURST_SIZE : 0) |
+                                (info.committedBurstSize() != null ? COMMITTED_BURST_SIZE : 0) |
+                                (info.exceededBurstSize() != null ? EXCEEDED_BURST_SIZE : 0));
+        out.writeString(info.id());
+        out.writeSignedVarLong(info.peakInformationRate());
+        if (info.peakBurstSize() != null) {
+            out.writeSignedVarLong(info.peakBurstSize());
+        }
+        out.writeSignedVarLong(info.committedInformationRate());
+        if (info.committedBurstSize() != null) {
+            out.writeSignedVarLong(info.committedBurstSize());
+        }
+        out.writeSignedVarLong(info.exceededInformationRate());
+        if (info.exceededBurstSize() != null) {
+            out.writeSignedVarLong(info.exceededBurstSize());
+        }
+        out.writeSignedVarLong(info.assuredInformationRate());
+        out.writeSignedVarLong(info.guaranteedInformationRate());
+    }
+
+    @Override
+    BandwidthProfileInformation read(Reader in) {
+        int flags = in.readVarInt();
+        BandwidthProfileInformation info = new BandwidthProfileInformation();
+        info.setId(in.readString());
+        info.setPeakInformationRate(in.readSignedVarLong());
+        if ((flags & PEAK_BURST_SIZE) != 0) {
+            info.setPeakBurstSize(in.readSignedVarLong());
+        }
+        info.setCommittedInformationRate(in.readSignedVarLong());
+        if ((flags & COMMITTED_BURST_SIZE) != 0) {
+            info.setCommittedBurstSize(in.readSignedVarLong());
+        }
+        info.setExceededInformationRate(in.readSignedVarLong());
+        if ((flags & EXCEEDED_BURST_SIZE) != 0) {
+            info.setExceededBurstSize(in.readSignedVarLong());
+        }
+        info.setAssuredInformationRate(in.readSignedVarLong());
+        info.setGuaranteedInformationRate(in.readSignedVarLong());
+        return info;
+    }
+}
@@ -17,7 +17,6 @@ package org.opencord.sadis.impl;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.opencord.sadis.BandwidthProfileInformation;
 import org.opencord.sadis.BaseConfig;
 import org.slf4j.Logger;
@@ -71,20 +70,30 @@ public class BandwidthProfileConfig extends BaseConfig<BandwidthProfileInformati
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
+    // shared by all configurations, the mapper is not reconfigured after this
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     @Override
     public List<BandwidthProfileInformation> getEntries() {
         List<BandwidthProfileInformation> result = new ArrayList<>();
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new SimpleModule());
-        final JsonNode entries = this.object.path(ENTRIES);
+        final JsonNode entries = getEntriesJson();
         entries.forEach(entry -> {
-            try {
-                result.add(mapper.readValue(entry.toString(), BandwidthProfileInformation.class));
-            } catch (IOException e) {
-                log.warn("Unable to parse configuration entry, '{}', error: {}", entry, e.getMessage());
+            BandwidthProfileInformation info = getEntry(entry);
+            if (info != null) {
+                result.add(info);
             }
         });
 
         return result;
     }
+
+    @Override
+    public BandwidthProfileInformation getEntry(JsonNode entry) {
+        try {
+            return MAPPER.treeToValue(entry, BandwidthProfileInformation.class);
+        } catch (IOException e) {
+            log.warn("Unable to parse configuration entry, '{}', error: {}", entry, e.getMessage());
+            return null;
+        }
+    }
 }
@@ -17,7 +17,7 @@ package org.opencord.sadis.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.base.Ticker;
 import com.google.common.collect.ImmutableSet;
 import org.onosproject.codec.JsonCodec;
 import org.onosproject.core.ApplicationId;
@@ -27,7 +27,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 import static org.onosproject.net.config.basics.SubjectFactories.APP_SUBJECT_FACTORY;
 
@@ -48,6 +47,11 @@ public class BandwidthProfileManager extends InformationAdapter<BandwidthProfile
             });
 
     public BandwidthProfileManager(ApplicationId appId) {
+        this(appId, Ticker.systemTicker());
+    }
+
+    BandwidthProfileManager(ApplicationId appId, Ticker ticker) {
+        super(ticker);
         this.appId = appId;
         this.registerModule();
         this.log.info("Started");
@@ -56,8 +60,7 @@ public class BandwidthProfileManager extends InformationAdapter<BandwidthProfile
 
     @Override
     public void registerModule() {
-        cache = CacheBuilder.newBuilder().maximumSize(maxiumCacheSize)
-                .expireAfterAccess(cacheEntryTtl, TimeUnit.SECONDS).build();
+        resetCache();
         mapper = new ObjectMapper();
         mapper.registerModule(new SimpleModule());
     }
@@ -77,6 +80,11 @@ public class BandwidthProfileManager extends InformationAdapter<BandwidthProfile
         return new BandwidthProfileCodec();
     }
 
+    @Override
+    public BinaryCodec<BandwidthProfileInformation> getBinaryCodec() {
+        return new BandwidthProfileBinaryCodec();
+    }
+
     @Override
     public Class<BandwidthProfileInformation> getInformationClass() {
         return BandwidthProfileInformation.class;
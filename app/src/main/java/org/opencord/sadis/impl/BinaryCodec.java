@@ -0,0 +1,276 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.VlanId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+
+/**
+ * Compact binary encoding of information, used where information is stored
+ * or replicated rather than exchanged with users.
+ * <p>
+ * An encoded record starts with the version of its format, followed by the
+ * fields in a fixed order. Integers are written as variable length integers,
+ * zig-zag encoded when they may be negative, optional fields are flagged in
+ * a leading bit set, and each string is written once per record and then
+ * referred to by its position in the record.
+ *
+ * @param <T> type of information encoded
+ */
+public abstract class BinaryCodec<T> {
+
+    /**
+     * Returns the version of the format written by this codec.
+     *
+     * @return format version
+     */
+    protected abstract int version();
+
+    abstract void write(T info, Writer out);
+
+    abstract T read(Reader in);
+
+    /**
+     * Encodes the given information.
+     *
+     * @param info information to encode
+     * @return encoded information
+     */
+    public final byte[] encode(T info) {
+        Writer out = new Writer();
+        out.writeVarInt(version());
+        write(info, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes the given information.
+     *
+     * @param data encoded information
+     * @return decoded information
+     * @throws IllegalArgumentException if the data is not a record of a known format version
+     */
+    public final T decode(byte[] data) {
+        Reader in = new Reader(data);
+        try {
+            int version = in.readVarInt();
+            if (version != version()) {
+                throw new IllegalArgumentException("Unsupported format version " + version);
+            }
+            return read(in);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated record", e);
+        }
+    }
+
+    /**
+     * Returns a Kryo serializer writing the information with this codec, so
+     * that it is used by the ONOS stores and serializers.
+     *
+     * @return Kryo serializer
+     */
+    public final Serializer<T> kryoSerializer() {
+        return new Serializer<T>() {
+            @Override
+            public void write(Kryo kryo, Output output, T info) {
+                byte[] data = encode(info);
+                output.writeVarInt(data.length, true);
+                output.writeBytes(data);
+            }
+
+            @Override
+            public T read(Kryo kryo, Input input, Class<T> type) {
+                return decode(input.readBytes(input.readVarInt(true)));
+            }
+        };
+    }
+
+    /**
+     * Buffer the fields of a record are written to.
+     */
+    static final class Writer {
+        private byte[] buffer = new byte[128];
+        private int length;
+        private final Map<String, Integer> strings = newHashMap();
+
+        void writeByte(int value) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        void writeBytes(byte[] value) {
+            if (length + value.length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + value.length));
+            }
+            System.arraycopy(value, 0, buffer, length, value.length);
+            length += value.length;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeSignedVarInt(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        /*
+         * 0 stands for null, 1 for a string written for the first time in
+         * the record and n > 1 for the (n - 2)th string of the record.
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarInt(index + 2);
+                return;
+            }
+            strings.put(value, strings.size());
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(1);
+            writeVarInt(utf8.length);
+            writeBytes(utf8);
+        }
+
+        // 0 stands for null, VLAN IDs range from -1 (untagged) to 4096 (any)
+        void writeVlanId(VlanId value) {
+            writeVarInt(value == null ? 0 : value.toShort() + 2);
+        }
+
+        void writeMacAddress(MacAddress value) {
+            writeBytes(value.toBytes());
+        }
+
+        void writeIp4Address(Ip4Address value) {
+            writeBytes(value.toOctets());
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    /**
+     * Reader of the fields of a record.
+     */
+    static final class Reader {
+        private final byte[] data;
+        private int position;
+        private final List<String> strings = newArrayList();
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int readByte() {
+            return data[position++] & 0xFF;
+        }
+
+        byte[] readBytes(int count) {
+            if (position + count > data.length) {
+                throw new ArrayIndexOutOfBoundsException(position + count);
+            }
+            byte[] value = Arrays.copyOfRange(data, position, position + count);
+            position += count;
+            return value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed variable length integer");
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        long readSignedVarLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readSignedVarInt() {
+            int value = readVarInt();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            int index = readVarInt();
+            if (index == 0) {
+                return null;
+            }
+            if (index > 1) {
+                if (index - 2 >= strings.size()) {
+                    throw new IllegalArgumentException("Unknown string reference " + index);
+                }
+                return strings.get(index - 2);
+            }
+            String value = new String(readBytes(readVarInt()), StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        VlanId readVlanId() {
+            int value = readVarInt();
+            return value == 0 ? null : SubscriberAndDeviceInformationConfig.vlanId((short) (value - 2));
+        }
+
+        MacAddress readMacAddress() {
+            return MacAddress.valueOf(readBytes(MacAddress.MAC_ADDRESS_LENGTH));
+        }
+
+        Ip4Address readIp4Address() {
+            return Ip4Address.valueOf(readBytes(Ip4Address.BYTE_LENGTH));
+        }
+    }
+}
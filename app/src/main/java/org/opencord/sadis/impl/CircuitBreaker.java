@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import com.google.common.base.Ticker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker guarding the requests to the remote URL. After a number of
+ * consecutive failures the circuit opens and requests are rejected without
+ * contacting the URL. Once the reset timeout has elapsed a single probe
+ * request is let through: the circuit closes if it succeeds and opens again
+ * if it fails.
+ */
+final class CircuitBreaker {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private enum Status {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long resetTimeoutNanos;
+    private final Ticker ticker;
+
+    private Status status = Status.CLOSED;
+    private int failures;
+    private long openedAt;
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param name             name of the guarded source, for logging
+     * @param failureThreshold consecutive failures opening the circuit, 0 to never open it
+     * @param resetTimeout     time the circuit stays open before a probe is let through
+     * @param ticker           source of the time
+     */
+    CircuitBreaker(String name, int failureThreshold, Duration resetTimeout, Ticker ticker) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.resetTimeoutNanos = resetTimeout.toNanos();
+        this.ticker = ticker;
+    }
+
+    int failureThreshold() {
+        return failureThreshold;
+    }
+
+    Duration resetTimeout() {
+        return Duration.ofNanos(resetTimeoutNanos);
+    }
+
+    /**
+     * Returns whether a request may be sent. While the circuit is open this
+     * is false, except for the first request after the reset timeout.
+     *
+     * @return true if the request may be sent
+     */
+    synchronized boolean allowRequest() {
+        if (status == Status.CLOSED) {
+            return true;
+        }
+        if (status == Status.OPEN && ticker.read() - openedAt >= resetTimeoutNanos) {
+            log.debug("Probing {} again", name);
+            status = Status.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records a request that got a response.
+     */
+    synchronized void onSuccess() {
+        if (status != Status.CLOSED) {
+            log.info("{} available again, closing the circuit", name);
+        }
+        status = Status.CLOSED;
+        failures = 0;
+    }
+
+    /**
+     * Records a request that failed, opening the circuit if it was probing or
+     * if the failure threshold is reached.
+     */
+    synchronized void onFailure() {
+        failures++;
+        if (status == Status.HALF_OPEN || (failureThreshold > 0 && failures >= failureThreshold)) {
+            if (status == Status.CLOSED) {
+                log.warn("{} failed {} times in a row, opening the circuit for {} ms", name, failures,
+                         resetTimeoutNanos / 1_000_000);
+            }
+            status = Status.OPEN;
+            openedAt = ticker.read();
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Map holding information in serialized form, for large locally configured
+ * data. Entries are kept as IDs and encoded bytes in a single open-addressing
+ * table, and the information is decoded again on every lookup, so each entry
+ * costs a fraction of the heap of the objects it describes.
+ * <p>
+ * Lookups never lock. Changes are serialized on the store and are visible to
+ * lookups as soon as they are made; removed slots are only reclaimed when the
+ * table is rebuilt.
+ *
+ * @param <T> type of information held
+ */
+final class CompactInformationStore<T> extends AbstractMap<String, T> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    // key of the slots whose entry was removed
+    private static final Object REMOVED = new Object();
+
+    private final BinaryCodec<T> codec;
+
+    // slot i holds its key at 2 * i and its encoded information at 2 * i + 1
+    private volatile AtomicReferenceArray<Object> table = new AtomicReferenceArray<>(2 * MIN_CAPACITY);
+    private int size;
+    private int used;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param codec codec encoding the information held
+     */
+    CompactInformationStore(BinaryCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public T get(Object key) {
+        byte[] value = find(table, key);
+        return value == null ? null : codec.decode(value);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(table, key) != null;
+    }
+
+    @Override
+    public synchronized T put(String key, T value) {
+        AtomicReferenceArray<Object> slots = table;
+        byte[] encoded = codec.encode(value);
+        int slot = slot(slots, key);
+        while (true) {
+            Object held = slots.get(2 * slot);
+            if (held == null) {
+                break;
+            }
+            if (held.equals(key)) {
+                byte[] previous = (byte[]) slots.getAndSet(2 * slot + 1, encoded);
+                return codec.decode(previous);
+            }
+            slot = next(slots, slot);
+        }
+        // the value is set first, so lookups matching the key always find it
+        slots.set(2 * slot + 1, encoded);
+        slots.set(2 * slot, key);
+        size++;
+        if (++used > capacity(slots) / 2) {
+            rebuild();
+        }
+        return null;
+    }
+
+    @Override
+    public T remove(Object key) {
+        byte[] value = removeEncoded(key);
+        return value == null ? null : codec.decode(value);
+    }
+
+    @Override
+    public synchronized void clear() {
+        table = new AtomicReferenceArray<>(2 * MIN_CAPACITY);
+        size = 0;
+        used = 0;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, T>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, T>> iterator() {
+                return new EntryIterator(table);
+            }
+
+            @Override
+            public int size() {
+                return CompactInformationStore.this.size();
+            }
+        };
+    }
+
+    private synchronized byte[] removeEncoded(Object key) {
+        AtomicReferenceArray<Object> slots = table;
+        int slot = indexOf(slots, key);
+        if (slot < 0) {
+            return null;
+        }
+        slots.set(2 * slot, REMOVED);
+        size--;
+        return (byte[]) slots.getAndSet(2 * slot + 1, null);
+    }
+
+    /**
+     * Moves the entries to a new table sized for them, dropping the removed
+     * slots. Lookups still reading the previous table find the same entries.
+     */
+    private void rebuild() {
+        AtomicReferenceArray<Object> slots = table;
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 4) {
+            capacity <<= 1;
+        }
+        AtomicReferenceArray<Object> rebuilt = new AtomicReferenceArray<>(2 * capacity);
+        for (int i = 0; i < capacity(slots); i++) {
+            Object key = slots.get(2 * i);
+            if (key instanceof String) {
+                int slot = slot(rebuilt, key);
+                while (rebuilt.get(2 * slot) != null) {
+                    slot = next(rebuilt, slot);
+                }
+                rebuilt.set(2 * slot + 1, slots.get(2 * i + 1));
+                rebuilt.set(2 * slot, key);
+            }
+        }
+        used = size;
+        table = rebuilt;
+    }
+
+    private static byte[] find(AtomicReferenceArray<Object> slots, Object key) {
+        int slot = indexOf(slots, key);
+        return slot < 0 ? null : (byte[]) slots.get(2 * slot + 1);
+    }
+
+    private static int indexOf(AtomicReferenceArray<Object> slots, Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        int slot = slot(slots, key);
+        while (true) {
+            Object held = slots.get(2 * slot);
+            if (held == null) {
+                return -1;
+            }
+            if (held.equals(key)) {
+                return slot;
+            }
+            slot = next(slots, slot);
+        }
+    }
+
+    private static int capacity(AtomicReferenceArray<Object> slots) {
+        return slots.length() / 2;
+    }
+
+    private static int slot(AtomicReferenceArray<Object> slots, Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (capacity(slots) - 1);
+    }
+
+    private static int next(AtomicReferenceArray<Object> slots, int slot) {
+        return (slot + 1) & (capacity(slots) - 1);
+    }
+
+    /**
+     * Iterates over the entries of a table, decoding their information only
+     * when it is requested.
+     */
+    private final class EntryIterator implements Iterator<Entry<String, T>> {
+        private final AtomicReferenceArray<Object> slots;
+        private int nextSlot = -1;
+        private String lastKey;
+
+        private EntryIterator(AtomicReferenceArray<Object> slots) {
+            this.slots = slots;
+            advance();
+        }
+
+        private void advance() {
+            do {
+                nextSlot++;
+            } while (nextSlot < capacity(slots) && !(slots.get(2 * nextSlot) instanceof String));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < capacity(slots);
+        }
+
+        @Override
+        public Entry<String, T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int slot = nextSlot;
+            advance();
+            lastKey = (String) slots.get(2 * slot);
+            return new EncodedEntry(lastKey, (byte[]) slots.get(2 * slot + 1));
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            // by key, as the entry may have moved to a rebuilt table since
+            removeEncoded(lastKey);
+            lastKey = null;
+        }
+    }
+
+    /**
+     * Entry of the store, decoding its information only when it is requested.
+     */
+    private final class EncodedEntry implements Entry<String, T> {
+        private final String key;
+        private final byte[] value;
+
+        private EncodedEntry(String key, byte[] value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public T getValue() {
+            return value == null ? null : codec.decode(value);
+        }
+
+        @Override
+        public T setValue(T newValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) obj;
+            return key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Remote fetcher backed by a shared HTTP/1.1 client that keeps connections
+ * to the integration host alive between requests. URLs with a scheme other
+ * than http or https (e.g. file) are read through {@link URLConnection}.
+ * Compressed responses are requested from the host and decompressed while
+ * they are read.
+ */
+public class DefaultRemoteFetcher implements RemoteFetcher {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private static final String HTTP = "http";
+    private static final String HTTPS = "https";
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final String NONE = "none";
+    private static final String JSON = "application/json";
+    private static final int BUFFER_SIZE = 8192;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final int maxConnectionsPerHost;
+    private final String compression;
+    private final String acceptEncoding;
+    private final HttpClient client;
+
+    // Limits the number of concurrent requests, and thus connections, per host
+    private final ConcurrentMap<String, Semaphore> hostPermits = Maps.newConcurrentMap();
+
+    /**
+     * Creates a new fetcher requesting uncompressed responses.
+     *
+     * @param connectTimeout        timeout for establishing a connection
+     * @param readTimeout           timeout for receiving the response
+     * @param maxConnectionsPerHost maximum number of concurrent connections per host
+     */
+    public DefaultRemoteFetcher(Duration connectTimeout, Duration readTimeout, int maxConnectionsPerHost) {
+        this(connectTimeout, readTimeout, maxConnectionsPerHost, NONE);
+    }
+
+    /**
+     * Creates a new fetcher.
+     *
+     * @param connectTimeout        timeout for establishing a connection
+     * @param readTimeout           timeout for receiving the response
+     * @param maxConnectionsPerHost maximum number of concurrent connections per host
+     * @param compression           preferred compression of the responses: gzip, deflate or none
+     * @throws IllegalArgumentException if the maximum number of connections is not positive
+     */
+    public DefaultRemoteFetcher(Duration connectTimeout, Duration readTimeout, int maxConnectionsPerHost,
+                                String compression) {
+        if (maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException("Maximum number of connections per host must be positive, got " +
+                                                       maxConnectionsPerHost);
+        }
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.compression = compression;
+        this.acceptEncoding = acceptEncoding(compression);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    public Duration connectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration readTimeout() {
+        return readTimeout;
+    }
+
+    public int maxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    public String compression() {
+        return compression;
+    }
+
+    // Both compressions are accepted, the preferred one is given the higher quality
+    private String acceptEncoding(String compression) {
+        switch (compression.toLowerCase(Locale.ROOT)) {
+            case GZIP:
+                return "gzip, deflate;q=0.5";
+            case DEFLATE:
+                return "deflate, gzip;q=0.5";
+            case NONE:
+                return null;
+            default:
+                log.warn("Unknown compression {}, requesting uncompressed responses", compression);
+                return null;
+        }
+    }
+
+    @Override
+    public InputStream fetch(String url) throws IOException {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid remote URL " + url, e);
+        }
+
+        if (HTTP.equalsIgnoreCase(uri.getScheme()) || HTTPS.equalsIgnoreCase(uri.getScheme())) {
+            return fetchHttp(uri);
+        }
+        return fetchUrl(url);
+    }
+
+    private InputStream fetchHttp(URI uri) throws IOException {
+        // waiting for a connection and reading the response share the read timeout
+        long deadline = System.nanoTime() + readTimeout.toNanos();
+        Semaphore permits = hostPermits.computeIfAbsent(uri.getAuthority(),
+                                                        host -> new Semaphore(maxConnectionsPerHost));
+        try {
+            if (!permits.tryAcquire(readTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new IOException("Timed out waiting for a connection to " + uri.getAuthority());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a connection to " + uri.getAuthority());
+        }
+
+        CompletableFuture<HttpResponse<byte[]>> exchange = null;
+        try {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new HttpTimeoutException("Timed out waiting for a connection to " + uri.getAuthority());
+            }
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofNanos(remaining))
+                    .header("Accept", JSON)
+                    .GET();
+            if (acceptEncoding != null) {
+                request.header("Accept-Encoding", acceptEncoding);
+            }
+            // the request timeout only covers the response headers, the deadline covers the body as well
+            exchange = client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            HttpResponse<byte[]> response = exchange.get(remaining, TimeUnit.NANOSECONDS);
+            int status = response.statusCode();
+            if (status == HttpURLConnection.HTTP_OK) {
+                return decode(response);
+            }
+            if (status == HttpURLConnection.HTTP_NOT_FOUND || status == HttpURLConnection.HTTP_NO_CONTENT) {
+                log.debug("No data at remote URL {}, status {}", uri, status);
+                return null;
+            }
+            if (isRejected(status)) {
+                throw new RemoteRejectedException(status, uri.toString());
+            }
+            throw new IOException("Unexpected status " + status + " from remote URL " + uri);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.cancel(true);
+            throw new InterruptedIOException("Interrupted while fetching " + uri);
+        } catch (TimeoutException e) {
+            exchange.cancel(true);
+            throw new HttpTimeoutException("Timed out reading the response from remote URL " + uri);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to fetch " + uri, e.getCause());
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Returns whether the status rejects the request itself, e.g. because of
+     * a wrong URL or missing credentials, so that sending it again would not
+     * help. Request timeouts and rate limiting are not permanent.
+     */
+    private static boolean isRejected(int status) {
+        return status >= HttpURLConnection.HTTP_BAD_REQUEST && status < HttpURLConnection.HTTP_INTERNAL_ERROR &&
+                status != HttpURLConnection.HTTP_CLIENT_TIMEOUT && status != HTTP_TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * Returns the body of the response, decompressed according to its
+     * content encoding.
+     */
+    private InputStream decode(HttpResponse<byte[]> response) throws IOException {
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("identity")
+                .trim().toLowerCase(Locale.ROOT);
+        InputStream body = new ByteArrayInputStream(response.body());
+        switch (encoding) {
+            case "identity":
+                return body;
+            case GZIP:
+            case "x-gzip":
+                return new GZIPInputStream(body, BUFFER_SIZE);
+            case DEFLATE:
+                return inflate(new BufferedInputStream(body, BUFFER_SIZE));
+            default:
+                throw new IOException("Unsupported content encoding " + encoding + " from remote URL " +
+                                              response.uri());
+        }
+    }
+
+    /**
+     * Inflates a deflate encoded body. The encoding is meant to be zlib
+     * wrapped, but some servers send raw deflate data, so the zlib header is
+     * checked for first.
+     */
+    private static InputStream inflate(BufferedInputStream body) throws IOException {
+        body.mark(2);
+        int cmf = body.read();
+        int flg = body.read();
+        body.reset();
+        boolean zlib = (cmf & 0x0f) == 8 && flg >= 0 && ((cmf << 8) | flg) % 31 == 0;
+        Inflater inflater = new Inflater(!zlib);
+        return new InflaterInputStream(body, inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    private InputStream fetchUrl(String url) throws IOException {
+        URLConnection connection = new URL(url).openConnection();
+        connection.setConnectTimeout((int) connectTimeout.toMillis());
+        connection.setReadTimeout((int) readTimeout.toMillis());
+        try {
+            return connection.getInputStream();
+        } catch (FileNotFoundException e) {
+            log.debug("No data at remote URL {}", url);
+            return null;
+        }
+    }
+}
@@ -15,32 +15,86 @@
  */
 package org.opencord.sadis.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
 import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.base.Ticker;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
-import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import org.onlab.metrics.MetricsService;
+import org.onlab.util.KryoNamespace;
 import org.onosproject.codec.JsonCodec;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.net.config.ConfigFactory;
 import org.onosproject.net.config.NetworkConfigRegistry;
+import org.onosproject.store.serializers.KryoNamespaces;
+import org.onosproject.store.service.EventuallyConsistentMap;
+import org.onosproject.store.service.EventuallyConsistentMapEvent;
+import org.onosproject.store.service.EventuallyConsistentMapListener;
+import org.onosproject.store.service.Serializer;
+import org.onosproject.store.service.StorageService;
+import org.onosproject.store.service.WallClockTimestamp;
 import org.opencord.sadis.BaseInformation;
 import org.opencord.sadis.BaseConfig;
 import org.opencord.sadis.BaseInformationService;
+import org.opencord.sadis.InformationStatistics;
+import org.opencord.sadis.SadisEvent;
 
 import java.util.Set;
 
+import static org.onlab.util.Tools.groupedThreads;
 
 public abstract class InformationAdapter<T extends BaseInformation, K extends BaseConfig<T>>
         implements BaseInformationService<T> {
@@ -49,13 +103,124 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
 
     protected static final int DEFAULT_MAXIMUM_CACHE_SIZE = 0;
     protected static final long DEFAULT_TTL = 0;
-    protected String url;
+    protected static final int FETCH_THREADS = 8;
+    protected static final int FETCH_QUEUE_SIZE = 1024;
+    protected static final long OFF_HEAP_SWEEP_INTERVAL = 1;
     protected ObjectMapper mapper;
-    protected Cache<String, T> cache;
     protected int maxiumCacheSize = DEFAULT_MAXIMUM_CACHE_SIZE;
     protected long cacheEntryTtl = DEFAULT_TTL;
+    protected long cacheRefresh = DEFAULT_TTL;
+    protected int notFoundCacheSize = 0;
+    protected long notFoundCacheTtl = 0;
 
-    protected Map<String, T> localCfgData = null;
+    /*
+     * Data sources and caches currently in use. Lookups read this once and
+     * never lock; configure() builds a new state and publishes it as a whole.
+     */
+    protected volatile State<T> state = new State<>(null, CacheBuilder.newBuilder().maximumSize(0).build(),
+            null, CacheBuilder.newBuilder().maximumSize(0).build(), null);
+
+    // IDs of the locally configured entries keyed by their JSON, to skip unchanged entries on reload
+    private Map<JsonNode, String> localCfgEntries = Collections.emptyMap();
+
+    // Secondary indexes over the locally configured and cached information
+    private final List<InformationIndex<T, ?>> indexes = new CopyOnWriteArrayList<>();
+
+    // Source of the time expiring the cached information and resetting the circuit breaker
+    private final Ticker ticker;
+
+    // Guards the requests to the remote URL, and how the failed ones are retried
+    private volatile CircuitBreaker circuitBreaker;
+    private volatile int retryAttempts;
+
+    // Remote information that expired from the cache, served while the remote URL is failing
+    private volatile Cache<String, T> staleCache;
+    private int staleCacheSize;
+    private long staleCacheTtl;
+    private volatile Duration retryBackoff = Duration.ZERO;
+
+    // Remote information evicted from the cache because of its size, held outside of the heap
+    private volatile OffHeapCache offHeapCache;
+    private ScheduledFuture<?> offHeapSweepTask;
+
+    /*
+     * Reader of the information fetched from the remote URL, built once per
+     * mapper and strictness. When not strict, unknown properties are logged
+     * and skipped while parsing instead of failing it.
+     */
+    private volatile ObjectReader remoteReader;
+    private ObjectMapper remoteReaderMapper;
+    private boolean strict;
+
+    // Counters and timers of the lookups, registered with the metrics service once available
+    private volatile InformationMetrics metrics = new InformationMetrics();
+
+    // Receives the change events of the information
+    private volatile Consumer<SadisEvent> eventSink = event -> { };
+
+    /*
+     * Remote requests currently in flight, keyed by ID. Concurrent misses for
+     * the same ID wait on the pending request instead of issuing their own.
+     */
+    private final ConcurrentMap<String, CompletableFuture<T>> pendingFetches = Maps.newConcurrentMap();
+
+    // Bounded pool running the remote requests issued by getAsync
+    private final ThreadPoolExecutor fetchExecutor = newFetchExecutor();
+
+    // Runs the loading of the cache at startup and the periodic snapshots
+    private final ScheduledExecutorService backgroundExecutor = Executors.newSingleThreadScheduledExecutor(
+            groupedThreads("onos/sadis", getClass().getSimpleName() + "-background-%d", log));
+
+    /*
+     * Cache shared with the other instances of the cluster, if enabled. The
+     * cache above serves as near-cache in front of it: entries fetched by any
+     * instance are found here, and removals propagate to all near-caches.
+     */
+    private StorageService storageService;
+    private volatile EventuallyConsistentMap<String, CachedInformation<T>> distributedCache;
+    private final EventuallyConsistentMapListener<String, CachedInformation<T>> distributedListener =
+            this::onDistributedEvent;
+
+    // Encodes the information held in snapshots and in the distributed cache
+    private Serializer serializer;
+    // Encodes the information held in the compact local data and in the off-heap cache
+    private volatile BinaryCodec<T> binaryCodec;
+
+    // Snapshots of the cache, see configureSnapshots()
+    private Path snapshotPath;
+    private long snapshotInterval;
+    private ScheduledFuture<?> snapshotTask;
+    private boolean snapshotRestored;
+
+    // Loading of the cache at startup, once started
+    private CompletableFuture<Integer> warmUp;
+
+    /**
+     * Creates an adapter measuring time with the system ticker.
+     */
+    protected InformationAdapter() {
+        this(Ticker.systemTicker());
+    }
+
+    /**
+     * Creates an adapter measuring the expiry of cached information and the
+     * reset timeout of the circuit breaker with the given ticker.
+     *
+     * @param ticker source of the time
+     */
+    protected InformationAdapter(Ticker ticker) {
+        this.ticker = ticker;
+        circuitBreaker = new CircuitBreaker(getClass().getSimpleName(), 0, Duration.ZERO, ticker);
+        staleCache = buildStaleCache(0, 0);
+    }
+
+    private ThreadPoolExecutor newFetchExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(FETCH_THREADS, FETCH_THREADS,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(FETCH_QUEUE_SIZE),
+                groupedThreads("onos/sadis", getClass().getSimpleName() + "-fetch-%d", log));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 
     public final void updateConfig(NetworkConfigRegistry cfgService) {
         K cfg = getConfig(cfgService);
@@ -65,7 +230,7 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
         }
         this.log.info("Cache Max Size: {}", cfg.getCacheMaxSize());
         this.log.info("Cache TTL:      {}", cfg.getCacheTtl().getSeconds());
-        this.log.info("Entries:        {}", cfg.getEntries());
+        this.log.info("Entries:        {}", cfg.getEntriesJson().size());
 
         configure(cfg);
     }
@@ -79,7 +244,8 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
      *
      * @param cfg Configuration data.
      */
-    public void configure(K cfg) {
+    public synchronized void configure(K cfg) {
+        State<T> current = state;
 
         String url = null;
         try {
@@ -90,39 +256,729 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
             log.error("Invalid URL specified: {}", mUrlEx);
         }
 
-        // always load local data
-        localCfgData = Maps.newConcurrentMap();
-        cfg.getEntries().forEach(entry ->
-                localCfgData.put(entry.id(), entry));
+        // apply the changes to the local data in place, so lookups never see it empty
+        Map<String, T> localCfgData = current.localCfgData;
+        boolean compact = cfg.isCompactEntries();
+        if (localCfgData == null || compact != localCfgData instanceof CompactInformationStore) {
+            localCfgData = compact ? new CompactInformationStore<>(binaryCodec()) : Maps.newConcurrentMap();
+            if (current.localCfgData != null) {
+                localCfgData.putAll(current.localCfgData);
+            }
+        }
+        Set<String> changedIds = updateLocalData(cfg, localCfgData);
+
+        RemoteFetcher remoteFetcher = current.remoteFetcher;
+        Duration connectTimeout = cfg.getConnectTimeout();
+        Duration readTimeout = cfg.getReadTimeout();
+        int maxConnections = cfg.getMaxConnectionsPerHost();
+        String compression = cfg.getCompression();
+        if (isFetcherChanged(remoteFetcher, connectTimeout, readTimeout, maxConnections, compression)) {
+            remoteFetcher = createRemoteFetcher(connectTimeout, readTimeout, maxConnections, compression);
+        }
 
         int maximumCacheSeize = cfg.getCacheMaxSize();
         long cacheEntryTtl = cfg.getCacheTtl().getSeconds();
+        long cacheRefresh = cfg.getCacheRefresh().getSeconds();
 
         // Rebuild cache if needed
-        if (isUrlChanged(url) || maximumCacheSeize != this.maxiumCacheSize ||
-                cacheEntryTtl != this.cacheEntryTtl) {
+        boolean urlChanged = isUrlChanged(current.url, url);
+        Cache<String, T> cache = current.cache;
+        if (urlChanged || maximumCacheSeize != this.maxiumCacheSize ||
+                cacheEntryTtl != this.cacheEntryTtl || cacheRefresh != this.cacheRefresh) {
             this.maxiumCacheSize = maximumCacheSeize;
             this.cacheEntryTtl = cacheEntryTtl;
-            this.url = url;
+            this.cacheRefresh = cacheRefresh;
+            cache = buildCache();
+        }
+
+        boolean strict = cfg.isStrict();
+        if (remoteReader == null || remoteReaderMapper != mapper || strict != this.strict) {
+            this.strict = strict;
+            remoteReaderMapper = mapper;
+            remoteReader = newRemoteReader(strict);
+        }
+
+        int failureThreshold = cfg.getCircuitBreakerFailures();
+        Duration resetTimeout = cfg.getCircuitBreakerResetTimeout();
+        if (urlChanged || failureThreshold != circuitBreaker.failureThreshold() ||
+                !resetTimeout.equals(circuitBreaker.resetTimeout())) {
+            circuitBreaker = new CircuitBreaker(url == null ? getClass().getSimpleName() : url,
+                                                failureThreshold, resetTimeout, ticker);
+        }
+        retryAttempts = Math.max(cfg.getRetryAttempts(), 0);
+        retryBackoff = cfg.getRetryBackoff();
+
+        int staleCacheSize = cfg.getStaleCacheMaxSize();
+        long staleCacheTtl = cfg.getStaleCacheTtl().getSeconds();
+        if (urlChanged || staleCacheSize != this.staleCacheSize || staleCacheTtl != this.staleCacheTtl) {
+            this.staleCacheSize = staleCacheSize;
+            this.staleCacheTtl = staleCacheTtl;
+            staleCache = buildStaleCache(staleCacheSize, staleCacheTtl);
+        }
+
+        long offHeapCapacity = cfg.getOffHeapCacheCapacity();
+        OffHeapCache offHeap = offHeapCache;
+        if (urlChanged || (offHeap == null ? offHeapCapacity > 0 : offHeapCapacity != offHeap.capacity() ||
+                cacheEntryTtl != offHeap.ttl())) {
+            if (offHeap != null) {
+                offHeap.close();
+            }
+            offHeapCache = offHeapCapacity > 0 ? new OffHeapCache(offHeapCapacity, cacheEntryTtl,
+                                                                  this::onOffHeapEviction, ticker) : null;
+            if (offHeapCache == null && offHeapSweepTask != null) {
+                offHeapSweepTask.cancel(false);
+                offHeapSweepTask = null;
+            } else if (offHeapCache != null && offHeapSweepTask == null) {
+                offHeapSweepTask = backgroundExecutor.scheduleWithFixedDelay(this::sweepOffHeap,
+                        OFF_HEAP_SWEEP_INTERVAL, OFF_HEAP_SWEEP_INTERVAL, TimeUnit.SECONDS);
+            }
+        }
+
+        int notFoundCacheSize = cfg.getNegativeCacheMaxSize();
+        long notFoundCacheTtl = cfg.getNegativeCacheTtl().getSeconds();
+        Cache<String, Boolean> notFoundCache = current.notFoundCache;
+        if (urlChanged || notFoundCacheSize != this.notFoundCacheSize ||
+                notFoundCacheTtl != this.notFoundCacheTtl) {
+            this.notFoundCacheSize = notFoundCacheSize;
+            this.notFoundCacheTtl = notFoundCacheTtl;
+            notFoundCache = CacheBuilder.newBuilder().ticker(ticker).maximumSize(Math.max(notFoundCacheSize, 0))
+                    .expireAfterWrite(notFoundCacheTtl, TimeUnit.SECONDS).build();
+        }
+
+        state = new State<>(url, cache, localCfgData, notFoundCache, remoteFetcher);
+
+        if (cache != current.cache) {
+            current.cache.invalidateAll();
+            current.cache.cleanUp();
+        } else {
+            cache.invalidateAll(changedIds);
+        }
+
+        configureDistributedCache(cfg);
+        configureSnapshots(cfg);
+    }
+
+    /**
+     * Applies the locally configured entries to the given map. Entries whose
+     * JSON is unchanged since the last configuration are left as they are.
+     *
+     * @param cfg          configuration data
+     * @param localCfgData map of the current local data, keyed by ID
+     * @return IDs that were added, changed or removed
+     */
+    private Set<String> updateLocalData(K cfg, Map<String, T> localCfgData) {
+        Map<JsonNode, String> entries = Maps.newLinkedHashMap();
+        Set<String> unchanged = Sets.newHashSet();
+        Map<String, T> updated = Maps.newHashMap();
+        for (JsonNode node : cfg.getEntriesJson()) {
+            String id = localCfgEntries.get(node);
+            if (id != null && localCfgData.containsKey(id)) {
+                entries.put(node, id);
+                unchanged.add(id);
+                continue;
+            }
+            T entry = cfg.getEntry(node);
+            if (entry != null) {
+                entries.put(node, entry.id());
+                updated.put(entry.id(), entry);
+            }
+        }
+        localCfgEntries = entries;
+
+        Set<String> changedIds = Sets.newHashSet();
+        List<T> replaced = Lists.newArrayList();
+        List<SadisEvent> events = Lists.newArrayList();
+        updated.forEach((id, entry) -> {
+            if (!entry.equals(localCfgData.get(id))) {
+                T old = localCfgData.put(id, entry);
+                index(entry);
+                if (old != null) {
+                    replaced.add(old);
+                    events.add(new SadisEvent(SadisEvent.Type.UPDATED, entry, old));
+                } else {
+                    events.add(new SadisEvent(SadisEvent.Type.ADDED, entry));
+                }
+                changedIds.add(id);
+            }
+        });
+        localCfgData.entrySet().removeIf(e -> {
+            if (updated.containsKey(e.getKey()) || unchanged.contains(e.getKey())) {
+                return false;
+            }
+            replaced.add(e.getValue());
+            changedIds.add(e.getKey());
+            events.add(new SadisEvent(SadisEvent.Type.REMOVED, e.getValue()));
+            return true;
+        });
+        replaced.forEach(this::unindex);
+        events.forEach(eventSink);
+        log.debug("Local data updated, {} of {} entries changed", changedIds.size(), entries.size());
+        return changedIds;
+    }
+
+    /**
+     * Replaces the cache in use with a new empty one built from the current
+     * size, TTL and refresh settings.
+     */
+    protected synchronized void resetCache() {
+        State<T> current = state;
+        state = new State<>(current.url, buildCache(), current.localCfgData, current.notFoundCache,
+                current.remoteFetcher);
+    }
+
+    /**
+     * Builds a cache with the current size, TTL and refresh settings. When a
+     * refresh interval is set, entries older than it keep being served while
+     * they are reloaded in the background; only expired entries are missed.
+     *
+     * @return new empty cache
+     */
+    protected Cache<String, T> buildCache() {
+        CacheBuilder<String, T> builder = CacheBuilder.newBuilder().ticker(ticker)
+                .maximumSize(maxiumCacheSize).expireAfterAccess(cacheEntryTtl, TimeUnit.SECONDS)
+                .removalListener(this::onRemoval);
+        if (cacheRefresh <= 0) {
+            return builder.build();
+        }
+        return builder.refreshAfterWrite(cacheRefresh, TimeUnit.SECONDS)
+                .build(CacheLoader.asyncReloading(new RefreshLoader(), fetchExecutor));
+    }
+
+    private void onRemoval(RemovalNotification<String, T> notification) {
+        T info = notification.getValue();
+        if (info == null) {
+            return;
+        }
+        unindex(info);
+        if (notification.wasEvicted()) {
+            metrics.evictions.inc();
+        }
+        boolean remote = state.url != null &&
+                (state.localCfgData == null || !state.localCfgData.containsKey(notification.getKey()));
+        if (notification.getCause() == RemovalCause.EXPIRED && remote) {
+            // still held, the event is raised once evicted from the stale cache as well
+            staleCache.put(notification.getKey(), info);
+            return;
+        }
+        OffHeapCache offHeap = offHeapCache;
+        if (notification.getCause() == RemovalCause.SIZE && remote && offHeap != null) {
+            // still held, the event is raised once evicted from the off-heap cache as well
+            offHeap.put(notification.getKey(), binaryCodec().encode(info));
+            return;
+        }
+        // locally configured information remains available when evicted from the cache
+        if (notification.wasEvicted() && peek(notification.getKey()) == null) {
+            eventSink.accept(new SadisEvent(SadisEvent.Type.EVICTED, info));
+        }
+    }
+
+    private Cache<String, T> buildStaleCache(int maximumSize, long ttl) {
+        CacheBuilder<String, T> builder = CacheBuilder.newBuilder().ticker(ticker)
+                .maximumSize(Math.max(maximumSize, 0)).removalListener(this::onStaleRemoval);
+        if (ttl > 0) {
+            builder.expireAfterWrite(ttl, TimeUnit.SECONDS);
+        }
+        return builder.build();
+    }
+
+    private void onStaleRemoval(RemovalNotification<String, T> notification) {
+        if (notification.wasEvicted() && notification.getValue() != null) {
+            eventSink.accept(new SadisEvent(SadisEvent.Type.EVICTED, notification.getValue()));
+        }
+    }
+
+    /**
+     * Removes the expired entries of the off-heap cache, raising their
+     * eviction events.
+     *
+     * @return number of entries removed
+     */
+    int sweepOffHeap() {
+        OffHeapCache offHeap = offHeapCache;
+        return offHeap == null ? 0 : offHeap.sweep();
+    }
+
+    private void onOffHeapEviction(String id, byte[] info) {
+        eventSink.accept(new SadisEvent(SadisEvent.Type.EVICTED, binaryCodec().decode(info)));
+    }
+
+    /**
+     * Sets the consumer of the events describing changes of the information.
+     *
+     * @param eventSink event consumer
+     */
+    public void setEventSink(Consumer<SadisEvent> eventSink) {
+        this.eventSink = eventSink;
+    }
+
+    /**
+     * Adds a secondary index, kept up to date with the locally configured
+     * and cached information. Must be called before any configuration.
+     *
+     * @param keys function returning the keys of some information
+     * @param <K>  type of the secondary key
+     * @return new index, to be queried with {@link #peek(String)}
+     */
+    <K> InformationIndex<T, K> addIndex(Function<T, Collection<K>> keys) {
+        InformationIndex<T, K> index = new InformationIndex<>(keys);
+        indexes.add(index);
+        return index;
+    }
+
+    private void index(T info) {
+        indexes.forEach(index -> index.add(info));
+    }
+
+    private void unindex(T info) {
+        // the information held is looked up once for all indexes, as it may have to be decoded
+        Supplier<T> held = Suppliers.memoize(() -> peek(info.id()));
+        indexes.forEach(index -> index.remove(info, id -> held.get()));
+    }
+
+    /**
+     * Returns the information cached or locally configured for the given ID,
+     * without fetching it from the remote URL or updating the cache.
+     *
+     * @param id key to information
+     * @return information held for the ID, or null
+     */
+    T peek(String id) {
+        State<T> current = state;
+        T info = current.cache.getIfPresent(id);
+        if (info == null && current.localCfgData != null) {
+            info = current.localCfgData.get(id);
+        }
+        return info;
+    }
+
+    /**
+     * Starts loading into the cache the IDs listed by the warm-up section of
+     * the configuration, unless already started. The IDs are read from the
+     * configuration, a local file and a bulk endpoint, and fetched in the
+     * background with bounded parallelism while lookups keep being served.
+     *
+     * @param cfgService network configuration service
+     * @return future completed with the number of entries loaded
+     */
+    public synchronized CompletableFuture<Integer> warmUp(NetworkConfigRegistry cfgService) {
+        if (warmUp != null) {
+            return warmUp;
+        }
+        K cfg = getConfig(cfgService);
+        if (cfg == null || state.url == null) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        List<String> ids = cfg.getWarmUpIds();
+        String file = cfg.getWarmUpFile();
+        String url = null;
+        try {
+            if (cfg.getWarmUpUrl() != null) {
+                url = cfg.getWarmUpUrl().toString();
+            }
+        } catch (MalformedURLException mUrlEx) {
+            log.error("Invalid warm-up URL specified: {}", mUrlEx);
+        }
+        if (ids.isEmpty() && file == null && url == null) {
+            return CompletableFuture.completedFuture(0);
+        }
 
-            Cache<String, T> newCache = CacheBuilder.newBuilder()
-                    .maximumSize(maxiumCacheSize).expireAfterAccess(cacheEntryTtl, TimeUnit.SECONDS).build();
-            Cache<String, T> oldCache = cache;
+        String bulkUrl = url;
+        int parallelism = Math.max(1, cfg.getWarmUpParallelism());
+        warmUp = CompletableFuture.supplyAsync(() -> loadWarmUp(ids, file, bulkUrl, parallelism),
+                backgroundExecutor);
+        return warmUp;
+    }
+
+    private int loadWarmUp(List<String> configuredIds, String file, String bulkUrl, int parallelism) {
+        long start = System.currentTimeMillis();
+        Set<String> ids = Sets.newLinkedHashSet(configuredIds);
+        if (file != null) {
+            try {
+                Files.readAllLines(Paths.get(file)).stream()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .forEach(ids::add);
+            } catch (IOException e) {
+                log.warn("Unable to read the warm-up IDs from {}: {}", file, e.getMessage());
+            }
+        }
+        if (bulkUrl != null) {
+            try (InputStream io = state.remoteFetcher.fetch(bulkUrl)) {
+                if (io != null) {
+                    mapper.readTree(io).forEach(id -> ids.add(id.asText()));
+                }
+            } catch (IOException e) {
+                log.warn("Unable to fetch the warm-up IDs from {}: {}", bulkUrl, e.getMessage());
+            }
+        }
 
-            synchronized (this) {
-                cache = newCache;
+        // at most parallelism requests in flight, so that lookups are not starved of fetch threads
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger loaded = new AtomicInteger();
+        try {
+            for (String id : ids) {
+                if (peek(id) != null) {
+                    continue;
+                }
+                permits.acquire();
+                getAsync(id).whenComplete((info, error) -> {
+                    if (info != null) {
+                        loaded.incrementAndGet();
+                    }
+                    permits.release();
+                });
             }
+            permits.acquire(parallelism);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Warm-up interrupted");
+        }
+        log.info("Warm-up loaded {} of {} entries in {} ms", loaded.get(), ids.size(),
+                 System.currentTimeMillis() - start);
+        return loaded.get();
+    }
+
+    /**
+     * Sets the metrics service the counters and timers of the lookups are
+     * registered with. Counts taken before are not carried over.
+     *
+     * @param metricsService metrics service
+     */
+    public void setMetricsService(MetricsService metricsService) {
+        this.metrics = new InformationMetrics(metricsService, getClass().getSimpleName());
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.opencord.sadis.BaseInformationService#getStatistics()
+     */
+    @Override
+    public InformationStatistics getStatistics() {
+        InformationMetrics current = metrics;
+        com.codahale.metrics.Snapshot latency = current.remoteFetches.getSnapshot();
+        return new InformationStatistics.Builder()
+                .setSize(state.cache.size())
+                .setHitCount(current.hits.getCount())
+                .setLocalHitCount(current.localHits.getCount())
+                .setMissCount(current.misses.getCount())
+                .setNegativeHitCount(current.negativeHits.getCount())
+                .setStaleHitCount(current.staleHits.getCount())
+                .setOffHeapHitCount(current.offHeapHits.getCount())
+                .setEvictionCount(current.evictions.getCount())
+                .setRemoteFetchCount(current.remoteFetches.getCount())
+                .setRemoteFailureCount(current.remoteFailures.getCount())
+                .setRemoteFetchMeanLatency(Duration.ofNanos((long) latency.getMean()))
+                .setRemoteFetch99thLatency(Duration.ofNanos((long) latency.get99thPercentile()))
+                .build();
+    }
+
+    /**
+     * Sets the storage service providing the distributed cache.
+     *
+     * @param storageService storage service
+     */
+    public void setStorageService(StorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    /**
+     * Creates or destroys the cache shared with the other instances of the
+     * cluster, as configured.
+     *
+     * @param cfg configuration data
+     */
+    private void configureDistributedCache(K cfg) {
+        boolean distributed = cfg.isCacheDistributed();
+        if (distributed && storageService == null) {
+            log.warn("Distributed cache requested but no storage service is available");
+            distributed = false;
+        }
+        if (distributed == (distributedCache != null)) {
+            return;
+        }
+        if (!distributed) {
+            stopDistributedCache();
+            return;
+        }
+
+        EventuallyConsistentMap<String, CachedInformation<T>> shared =
+                storageService.<String, CachedInformation<T>>eventuallyConsistentMapBuilder()
+                        .withName("onos-sadis-" + getInformationClass().getSimpleName())
+                        .withSerializer(serializerNamespace())
+                        .withTimestampProvider((id, cached) -> new WallClockTimestamp())
+                        .build();
+        shared.addListener(distributedListener);
+        distributedCache = shared;
+    }
+
+    private void stopDistributedCache() {
+        EventuallyConsistentMap<String, CachedInformation<T>> shared = distributedCache;
+        if (shared == null) {
+            return;
+        }
+        distributedCache = null;
+        shared.removeListener(distributedListener);
+        shared.destroy();
+    }
+
+    /**
+     * Moves the information held for the given ID from the off-heap cache
+     * back to the cache.
+     *
+     * @param id      key to information
+     * @param current state whose cache to fill
+     * @return information found in the off-heap cache, or null
+     */
+    private T getOffHeap(String id, State<T> current) {
+        OffHeapCache offHeap = offHeapCache;
+        byte[] encoded = offHeap == null ? null : offHeap.take(id);
+        if (encoded == null) {
+            return null;
+        }
+        log.debug("Found data for id {} in the off-heap cache", id);
+        T info = binaryCodec().decode(encoded);
+        metrics.offHeapHits.inc();
+        index(info);
+        current.cache.put(id, info);
+        return info;
+    }
+
+    /**
+     * Returns the information shared by another instance of the cluster for
+     * the given ID, adding it to the near-cache. The distributed cache does
+     * not expire entries, so a stale entry is removed by the instance that
+     * finds it, unless another instance replaced it meanwhile.
+     *
+     * @param id      key to information
+     * @param current state whose cache the information is added to
+     * @return shared information, or null
+     */
+    private T getDistributed(String id, State<T> current) {
+        EventuallyConsistentMap<String, CachedInformation<T>> shared = distributedCache;
+        if (shared == null) {
+            return null;
+        }
+        CachedInformation<T> cached = shared.get(id);
+        if (cached == null) {
+            return null;
+        }
+        if (isStale(cached)) {
+            shared.remove(id, cached);
+            return null;
+        }
+        log.debug("Found data for id {} in the distributed cache", id);
+        index(cached.info);
+        current.cache.put(id, cached.info);
+        return cached.info;
+    }
 
-            oldCache.invalidateAll();
-            oldCache.cleanUp();
+    private void putDistributed(String id, T info) {
+        EventuallyConsistentMap<String, CachedInformation<T>> shared = distributedCache;
+        if (shared != null) {
+            shared.put(id, new CachedInformation<>(info, System.currentTimeMillis()));
         }
     }
 
-    protected boolean isUrlChanged(String url) {
-        if (url == null && this.url == null) {
+    private boolean isStale(CachedInformation<T> cached) {
+        return System.currentTimeMillis() - cached.time >= TimeUnit.SECONDS.toMillis(cacheEntryTtl);
+    }
+
+    /*
+     * Keeps the near-cache in line with the distributed cache: entries removed
+     * by any instance are dropped and entries updated by any instance replace
+     * the ones held here.
+     */
+    private void onDistributedEvent(EventuallyConsistentMapEvent<String, CachedInformation<T>> event) {
+        State<T> current = state;
+        if (event.type() == EventuallyConsistentMapEvent.Type.REMOVE) {
+            current.cache.invalidate(event.key());
+            invalidateOffHeap(event.key());
+            return;
+        }
+        T cached = current.cache.getIfPresent(event.key());
+        T info = event.value().info;
+        if (cached != null && !cached.equals(info)) {
+            index(info);
+            current.cache.put(event.key(), info);
+        }
+    }
+
+    /**
+     * Schedules the periodic snapshots of the cache as configured. The first
+     * time snapshots are enabled, the cache is loaded from the last snapshot.
+     *
+     * @param cfg configuration data
+     */
+    private void configureSnapshots(K cfg) {
+        long interval = cfg.getSnapshotInterval().getSeconds();
+        Path path = cfg.getSnapshotFile() != null ? Paths.get(cfg.getSnapshotFile()) :
+                Paths.get(System.getProperty("karaf.data", System.getProperty("java.io.tmpdir")),
+                          "sadis", getClass().getSimpleName() + ".snapshot");
+        if (interval == snapshotInterval && path.equals(snapshotPath)) {
+            return;
+        }
+        if (snapshotTask != null) {
+            snapshotTask.cancel(false);
+            snapshotTask = null;
+        }
+        snapshotInterval = interval;
+        snapshotPath = interval > 0 ? path : null;
+        if (snapshotPath == null) {
+            return;
+        }
+
+        if (!snapshotRestored) {
+            snapshotRestored = true;
+            restoreSnapshot(snapshotPath);
+        }
+        snapshotTask = backgroundExecutor.scheduleWithFixedDelay(this::writeSnapshot, interval, interval,
+                                                                 TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the classes stored in the snapshots and the distributed cache.
+     * The information is written with the binary codec of the service;
+     * subclasses must add the other classes their information refers to.
+     *
+     * @return builder of the namespace of the stored information
+     */
+    protected KryoNamespace.Builder serializerNamespace() {
+        return KryoNamespace.newBuilder()
+                .register(KryoNamespaces.API)
+                .nextId(KryoNamespaces.BEGIN_USER_CUSTOM_ID)
+                .register(Snapshot.class, CachedInformation.class)
+                .register(getBinaryCodec().kryoSerializer(), getInformationClass());
+    }
+
+    private BinaryCodec<T> binaryCodec() {
+        BinaryCodec<T> codec = binaryCodec;
+        if (codec == null) {
+            // codecs hold no state, racing threads may each create one
+            codec = getBinaryCodec();
+            binaryCodec = codec;
+        }
+        return codec;
+    }
+
+    private synchronized Serializer serializer() {
+        if (serializer == null) {
+            serializer = Serializer.using(serializerNamespace().build(getClass().getSimpleName()));
+        }
+        return serializer;
+    }
+
+    /**
+     * Saves the information fetched from the remote URL and currently cached
+     * to the snapshot file, replacing the previous snapshot.
+     */
+    void writeSnapshot() {
+        Path path = snapshotPath;
+        State<T> current = state;
+        if (path == null || current.url == null) {
+            return;
+        }
+
+        Map<String, T> entries = Maps.newHashMap();
+        current.cache.asMap().forEach((id, info) -> {
+            // the locally configured information is restored from the configuration
+            if (current.localCfgData == null || !current.localCfgData.containsKey(id)) {
+                entries.put(id, info);
+            }
+        });
+        Snapshot<T> snapshot = new Snapshot<>(System.currentTimeMillis(), current.url, entries);
+
+        try {
+            Path dir = path.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            // write aside and rename, so that a crash never leaves a partial snapshot behind
+            Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+            Files.write(tmp, serializer().encode(snapshot));
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Saved {} entries to snapshot {}", entries.size(), path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to save snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void restoreSnapshot(Path path) {
+        State<T> current = state;
+        if (current.url == null || !Files.exists(path)) {
+            return;
+        }
+
+        try {
+            Snapshot<T> snapshot = serializer().decode(Files.readAllBytes(path));
+            long age = System.currentTimeMillis() - snapshot.time;
+            if (!current.url.equals(snapshot.url) || age >= TimeUnit.SECONDS.toMillis(cacheEntryTtl)) {
+                log.info("Ignoring snapshot {}, written {} ms ago for {}", path, age, snapshot.url);
+                return;
+            }
+            int restored = 0;
+            for (T info : snapshot.entries.values()) {
+                if (peek(info.id()) == null) {
+                    index(info);
+                    current.cache.put(info.id(), info);
+                    restored++;
+                }
+            }
+            log.info("Restored {} entries from snapshot {}, written {} ms ago", restored, path, age);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to restore snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the executors running the asynchronous remote requests, the
+     * warm-up and the snapshots, saving a last snapshot if enabled, leaves
+     * the distributed cache and releases the memory of the off-heap cache.
+     */
+    public void shutdown() {
+        backgroundExecutor.shutdownNow();
+        if (snapshotPath != null) {
+            writeSnapshot();
+        }
+        stopDistributedCache();
+        OffHeapCache offHeap = offHeapCache;
+        offHeapCache = null;
+        if (offHeap != null) {
+            offHeap.close();
+        }
+        fetchExecutor.shutdownNow();
+    }
+
+    private boolean isFetcherChanged(RemoteFetcher remoteFetcher, Duration connectTimeout, Duration readTimeout,
+                                     int maxConnections, String compression) {
+        if (!(remoteFetcher instanceof DefaultRemoteFetcher)) {
+            return remoteFetcher == null;
+        }
+        DefaultRemoteFetcher current = (DefaultRemoteFetcher) remoteFetcher;
+        return !current.connectTimeout().equals(connectTimeout) || !current.readTimeout().equals(readTimeout) ||
+                current.maxConnectionsPerHost() != maxConnections || !current.compression().equals(compression);
+    }
+
+    /**
+     * Creates the fetcher used to retrieve information from the remote URL.
+     * Subclasses may override this to plug in a different transport.
+     *
+     * @param connectTimeout        timeout for establishing a connection
+     * @param readTimeout           timeout for receiving the response
+     * @param maxConnectionsPerHost maximum number of concurrent connections per host
+     * @param compression           preferred compression of the responses
+     * @return remote fetcher
+     */
+    protected RemoteFetcher createRemoteFetcher(Duration connectTimeout, Duration readTimeout,
+                                                int maxConnectionsPerHost, String compression) {
+        return new DefaultRemoteFetcher(connectTimeout, readTimeout, maxConnectionsPerHost, compression);
+    }
+
+    protected boolean isUrlChanged(String current, String url) {
+        if (url == null && current == null) {
             return false;
         }
-        return !((url == this.url) || (url != null && url.equals(this.url)));
+        return !((url == current) || (url != null && url.equals(current)));
     }
 
     /*
@@ -132,8 +988,14 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
      * org.opencord.sadis.SadisService#clearLocalData()
      */
     @Override
-    public void clearLocalData() {
-        localCfgData.clear();
+    public synchronized void clearLocalData() {
+        Map<String, T> localCfgData = state.localCfgData;
+        if (localCfgData != null) {
+            List<T> cleared = Lists.newArrayList(localCfgData.values());
+            localCfgData.clear();
+            cleared.forEach(this::unindex);
+        }
+        localCfgEntries = Collections.emptyMap();
     }
 
     /*
@@ -144,7 +1006,25 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
      */
     @Override
     public void invalidateAll() {
-        cache.invalidateAll();
+        State<T> current = state;
+        current.cache.invalidateAll();
+        current.notFoundCache.invalidateAll();
+        staleCache.invalidateAll();
+        OffHeapCache offHeap = offHeapCache;
+        if (offHeap != null) {
+            offHeap.invalidateAll();
+        }
+        EventuallyConsistentMap<String, CachedInformation<T>> shared = distributedCache;
+        if (shared != null) {
+            shared.clear();
+        }
+    }
+
+    private void invalidateOffHeap(String id) {
+        OffHeapCache offHeap = offHeapCache;
+        if (offHeap != null) {
+            offHeap.invalidate(id);
+        }
     }
 
     /*
@@ -155,7 +1035,15 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
      */
     @Override
     public void invalidateId(String id) {
-        cache.invalidate(id);
+        State<T> current = state;
+        current.cache.invalidate(id);
+        current.notFoundCache.invalidate(id);
+        staleCache.invalidate(id);
+        invalidateOffHeap(id);
+        EventuallyConsistentMap<String, CachedInformation<T>> shared = distributedCache;
+        if (shared != null) {
+            shared.remove(id);
+        }
     }
 
     /*
@@ -168,33 +1056,122 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
     //TODO remove
     @Override
     public T getfromCache(String id) {
-        Cache<String, T> local;
-        synchronized (this) {
-            local = cache;
+        return state.cache.getIfPresent(id);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.opencord.sadis.BaseInformationService#get(java.lang.
+     * String)
+     */
+    @Override
+    public T get(String id) {
+        State<T> current = state;
+
+        T info = getLocally(id, current);
+
+        if (info == null && current.url != null) {
+            try {
+                info = fetchShared(id, current, null).join();
+            } catch (CompletionException e) {
+                log.debug("Remote request for id {} failed {}", id, e.getMessage());
+            }
         }
-        T info = local.getIfPresent(id);
+
         if (info != null) {
+            log.debug("Returning Info {}", info);
             return info;
+        } else {
+            log.warn("Data not found for id {}", id);
+            return null;
         }
-        return null;
     }
 
     /*
      * (non-Javadoc)
      *
      * @see
-     * org.opencord.sadis.BaseInformationService#get(java.lang.
+     * org.opencord.sadis.BaseInformationService#getAsync(java.lang.
      * String)
      */
     @Override
-    public T get(String id) {
-        Cache<String, T> local;
-        synchronized (this) {
-            local = cache;
+    public CompletableFuture<T> getAsync(String id) {
+        State<T> current = state;
+
+        T info = getLocally(id, current);
+        if (info != null) {
+            return CompletableFuture.completedFuture(info);
         }
 
-        T info = local.getIfPresent(id);
+        if (current.url == null) {
+            log.warn("Data not found for id {}", id);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // hand out a copy so that callers cannot complete the shared request
+        return fetchShared(id, current, fetchExecutor).copy();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.opencord.sadis.BaseInformationService#getAll(java.util.
+     * Collection)
+     */
+    @Override
+    public Map<String, T> getAll(Collection<String> ids) {
+        State<T> current = state;
+
+        Map<String, T> result = Maps.newHashMapWithExpectedSize(ids.size());
+        Map<String, CompletableFuture<T>> misses = Maps.newHashMap();
+        for (String id : ids) {
+            T info = getLocally(id, current);
+            if (info != null) {
+                result.put(id, info);
+            } else if (current.url != null && !misses.containsKey(id)) {
+                // fan the misses out on the fetch executor and wait for them all below
+                misses.put(id, fetchShared(id, current, fetchExecutor));
+            } else if (current.url == null) {
+                log.warn("Data not found for id {}", id);
+            }
+        }
+
+        misses.forEach((id, pending) -> {
+            T info = null;
+            try {
+                info = pending.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RejectedExecutionException) {
+                    // executor is saturated, fall back to fetching on this thread
+                    info = get(id);
+                } else {
+                    log.debug("Remote request for id {} failed {}", id, e.getMessage());
+                }
+            }
+            if (info != null) {
+                result.put(id, info);
+            } else {
+                log.warn("Data not found for id {}", id);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Looks up the given ID in the cache, then in the locally configured data
+     * and in the distributed cache, caching the information found in these.
+     *
+     * @param id      key to information
+     * @param current state to look into
+     * @return information found locally, or null
+     */
+    private T getLocally(String id, State<T> current) {
+        T info = current.cache.getIfPresent(id);
         if (info != null) {
+            metrics.hits.inc();
             return info;
         }
 
@@ -205,7 +1182,7 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
          */
 
         log.debug("Getting data from local config");
-        info = (localCfgData == null) ? null : localCfgData.get(id);
+        info = (current.localCfgData == null) ? null : current.localCfgData.get(id);
 
         if (log.isTraceEnabled()) {
             if (info == null) {
@@ -214,42 +1191,312 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
                 log.trace("Found data in local config.");
             }
         }
+        if (info != null) {
+            metrics.localHits.inc();
+            current.cache.put(id, info);
+            return info;
+        }
+        info = getOffHeap(id, current);
+        if (info == null) {
+            info = getDistributed(id, current);
+        }
+        if (info != null) {
+            metrics.hits.inc();
+        } else {
+            metrics.misses.inc();
+        }
+        return info;
+    }
 
-        if (info == null && this.url != null) {
-            // Augment URL with query parameters
-            String urlWithSubId = this.url.replaceAll("%s", id);
-            log.debug("Getting data from the remote URL {}", urlWithSubId);
+    /**
+     * Fetches the information for the given ID from the remote URL. Only one
+     * request per ID is in flight at any time; concurrent callers for the
+     * same ID are handed the pending request and share its result. Failed
+     * requests are only retried when run by the executor, so that a caller
+     * waiting for the result falls back to the stale information instead of
+     * sleeping between the attempts.
+     *
+     * @param id       key to information
+     * @param current  state to fetch from and populate with the fetched information
+     * @param executor executor running the request, or null to run it on the calling thread
+     * @return future completed with the information fetched from the remote URL, or null
+     */
+    private CompletableFuture<T> fetchShared(String id, State<T> current, Executor executor) {
+        CompletableFuture<T> pending = new CompletableFuture<>();
+        CompletableFuture<T> inFlight = pendingFetches.putIfAbsent(id, pending);
+        if (inFlight != null) {
+            log.debug("Waiting for in-flight remote request for id {}", id);
+            return inFlight;
+        }
 
-            try (InputStream io = new URL(urlWithSubId).openStream()) {
-                info = mapper.readValue(io, getInformationClass());
-            } catch (UnrecognizedPropertyException e) {
-                log.warn("Unknown property in remote json: \"{}\". Will attempt parsing again while ignoring " +
-                        "unknown properties", e.getPropertyName());
-                log.debug("Exception while parsing remote json: {}", e.getMessage(), e);
+        if (current.notFoundCache.getIfPresent(id) != null) {
+            log.debug("Id {} recently not found at the remote URL", id);
+            metrics.negativeHits.inc();
+            pendingFetches.remove(id, pending);
+            pending.complete(null);
+            return pending;
+        }
 
-                mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        if (executor == null) {
+            completeFetch(id, current, pending, false);
+            return pending;
+        }
 
-                try (InputStream io = new URL(urlWithSubId).openStream()) {
-                    info = mapper.readValue(io, getInformationClass());
-                } catch (IOException ex) {
-                    //Json exceptions extend IOException, so everything will be catched here
-                    log.debug("Exception while reading remote data {} ", ex.getMessage(), ex);
+        try {
+            executor.execute(() -> completeFetch(id, current, pending, true));
+        } catch (RejectedExecutionException e) {
+            log.warn("Too many pending remote requests, rejecting id {}", id);
+            pendingFetches.remove(id, pending);
+            pending.completeExceptionally(e);
+        }
+        return pending;
+    }
+
+    private void completeFetch(String id, State<T> current, CompletableFuture<T> pending, boolean retry) {
+        try {
+            T info = fetchRemote(id, current, retry);
+            if (info != null) {
+                // populate the cache before releasing the waiters so that
+                // late callers find the entry instead of fetching it again
+                T previous = getPrevious(id, current);
+                index(info);
+                current.cache.put(id, info);
+                putDistributed(id, info);
+                staleCache.invalidate(id);
+                if (previous == null) {
+                    eventSink.accept(new SadisEvent(SadisEvent.Type.ADDED, info));
+                } else if (!info.equals(previous)) {
+                    eventSink.accept(new SadisEvent(SadisEvent.Type.UPDATED, info, previous));
                 }
+            }
+            pending.complete(info);
+        } catch (IOException e) {
+            // the remote URL is failing, fall back to the information that expired meanwhile
+            pending.complete(getStale(id, current));
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+        } finally {
+            pendingFetches.remove(id, pending);
+        }
+    }
 
-                mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
-            } catch (IOException e) {
-                // TODO use a better http library that allows us to read status code
-                log.debug("Exception while reading remote data {} ", e.getMessage(), e);
+    /**
+     * Returns the information previously fetched for the given ID that
+     * listeners were not told to be evicted, i.e. that expired to the stale
+     * cache or that is still shared through the distributed cache.
+     *
+     * @param id      key to information
+     * @param current state whose cache the information expired from
+     * @return previous information, or null
+     */
+    private T getPrevious(String id, State<T> current) {
+        // expired entries are only moved to the stale cache once the cache is cleaned up
+        current.cache.cleanUp();
+        T previous = staleCache.getIfPresent(id);
+        EventuallyConsistentMap<String, CachedInformation<T>> shared = distributedCache;
+        if (previous == null && shared != null) {
+            CachedInformation<T> cached = shared.get(id);
+            previous = cached == null ? null : cached.info;
+        }
+        return previous;
+    }
+
+    /**
+     * Fetches the information for the given ID from the remote URL, retrying
+     * failed requests as configured.
+     *
+     * @param id      key to information
+     * @param current state to fetch from
+     * @param retry   whether failed requests are retried, waiting between the attempts
+     * @return information fetched, or null if not found or not valid
+     * @throws IOException if the remote URL is failing or the circuit breaker is open
+     */
+    private T fetchRemote(String id, State<T> current, boolean retry) throws IOException {
+        CircuitBreaker breaker = circuitBreaker;
+        if (!breaker.allowRequest()) {
+            log.debug("Remote URL unavailable, not fetching id {}", id);
+            throw new IOException("Remote URL unavailable");
+        }
+
+        Timer.Context timer = metrics.remoteFetches.time();
+        boolean recorded = false;
+        try {
+            for (int attempt = 0;; attempt++) {
+                try {
+                    T info = readRemote(id, current);
+                    recorded = true;
+                    breaker.onSuccess();
+                    return info;
+                } catch (IOException e) {
+                    log.debug("Exception while reading remote data {} ", e.getMessage(), e);
+                    metrics.remoteFailures.inc();
+                    if (!retry || attempt >= retryAttempts || !backOff(attempt)) {
+                        recorded = true;
+                        breaker.onFailure();
+                        throw e;
+                    }
+                }
+            }
+        } finally {
+            // an unexpected failure must still be recorded, or a probe would leave the circuit half-open
+            if (!recorded) {
+                metrics.remoteFailures.inc();
+                breaker.onFailure();
             }
+            timer.stop();
         }
+    }
 
+    /**
+     * Returns the information that expired from the cache for the given ID,
+     * to be served while the remote URL is failing.
+     *
+     * @param id      key to information
+     * @param current state whose cache the information expired from
+     * @return stale information, or null
+     */
+    private T getStale(String id, State<T> current) {
+        // expired entries are only moved to the stale cache once the cache is cleaned up
+        current.cache.cleanUp();
+        T info = staleCache.getIfPresent(id);
         if (info != null) {
-            local.put(id, info);
-            log.debug("Returning Info {}", info);
+            log.debug("Remote URL failing, serving stale data for id {}", id);
+            metrics.staleHits.inc();
+        }
+        return info;
+    }
+
+    private ObjectReader newRemoteReader(boolean strict) {
+        ObjectReader reader = mapper.readerFor(getInformationClass());
+        if (strict) {
+            return reader.with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+        return reader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .withHandler(new DeserializationProblemHandler() {
+                    @Override
+                    public boolean handleUnknownProperty(DeserializationContext ctxt, JsonParser p,
+                                                         JsonDeserializer<?> deserializer, Object beanOrClass,
+                                                         String propertyName) {
+                        log.warn("Unknown property in remote json: \"{}\", ignoring it", propertyName);
+                        // not handled here, so that the property is skipped
+                        return false;
+                    }
+                });
+    }
+
+    /**
+     * Waits before retrying a failed request. The delay doubles with each
+     * attempt and is randomized by up to half, so that the instances and
+     * threads retrying do not hit the remote URL all at once.
+     *
+     * @param attempt number of the attempt that failed, starting at 0
+     * @return false if interrupted while waiting
+     */
+    private boolean backOff(int attempt) {
+        long delay = retryBackoff.toMillis() << Math.min(attempt, 16);
+        try {
+            Thread.sleep(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Reads the information for the given ID from the remote URL.
+     *
+     * @param id      key to information
+     * @param current state to fetch from
+     * @return information read, or null if not found or not valid
+     * @throws IOException if the request failed
+     */
+    private T readRemote(String id, State<T> current) throws IOException {
+        T info = null;
+        RemoteFetcher remoteFetcher = current.remoteFetcher;
+        // Augment URL with query parameters
+        String urlWithSubId = current.url.replaceAll("%s", id);
+        log.debug("Getting data from the remote URL {}", urlWithSubId);
+
+        try (InputStream io = remoteFetcher.fetch(urlWithSubId)) {
+            if (io == null) {
+                // remember the miss so that retries for this id are answered locally
+                current.notFoundCache.put(id, Boolean.TRUE);
+                return null;
+            }
+            info = remoteReader.readValue(io);
+        } catch (RemoteRejectedException e) {
+            // the remote URL answered, retrying would not change its answer
+            log.warn("Remote URL rejected the request for id {} with status {}", id, e.status());
+        } catch (UnrecognizedPropertyException e) {
+            log.warn("Unknown property in remote json: \"{}\", rejecting data for id {}", e.getPropertyName(), id);
+        } catch (JsonProcessingException e) {
+            // the remote URL answered, retrying would not fix its data
+            log.debug("Exception while parsing remote json: {}", e.getMessage(), e);
+        }
+        return info;
+    }
+
+    /**
+     * Reloads cached entries from the local configuration or the remote URL.
+     * A failed reload keeps the current value until it expires.
+     */
+    private final class RefreshLoader extends CacheLoader<String, T> {
+
+        @Override
+        public T load(String id) throws Exception {
+            State<T> current = state;
+            T info = (current.localCfgData == null) ? null : current.localCfgData.get(id);
+            if (info == null && current.url != null) {
+                // reloads run on the fetch executor
+                info = fetchRemote(id, current, true);
+            }
+            if (info == null) {
+                throw new IOException("Data not found for id " + id);
+            }
+            index(info);
             return info;
-        } else {
-            log.warn("Data not found for id {}", id);
-            return null;
+        }
+
+        @Override
+        public ListenableFuture<T> reload(String id, T oldValue) {
+            log.debug("Refreshing cached data for id {}", id);
+            try {
+                T info = load(id);
+                if (state.localCfgData == null || !state.localCfgData.containsKey(id)) {
+                    putDistributed(id, info);
+                }
+                if (!info.equals(oldValue)) {
+                    eventSink.accept(new SadisEvent(SadisEvent.Type.UPDATED, info, oldValue));
+                }
+                return Futures.immediateFuture(info);
+            } catch (Exception e) {
+                log.debug("Unable to refresh id {}, keeping cached data: {}", id, e.getMessage());
+                return Futures.immediateFuture(oldValue);
+            }
+        }
+    }
+
+    /**
+     * Immutable combination of the data sources and caches used for lookups.
+     *
+     * @param <T> type of information held
+     */
+    protected static final class State<T> {
+        final String url;
+        final Cache<String, T> cache;
+        final Map<String, T> localCfgData;
+        // IDs the remote URL recently reported as unknown, disabled unless configured
+        final Cache<String, Boolean> notFoundCache;
+        final RemoteFetcher remoteFetcher;
+
+        State(String url, Cache<String, T> cache, Map<String, T> localCfgData,
+              Cache<String, Boolean> notFoundCache, RemoteFetcher remoteFetcher) {
+            this.url = url;
+            this.cache = cache;
+            this.localCfgData = localCfgData;
+            this.notFoundCache = notFoundCache;
+            this.remoteFetcher = remoteFetcher;
         }
     }
 
@@ -259,9 +1506,62 @@ public abstract class InformationAdapter<T extends BaseInformation, K extends Ba
 
     public abstract JsonCodec<T> getCodec();
 
+    public abstract BinaryCodec<T> getBinaryCodec();
+
     public abstract Class<T> getInformationClass();
 
     public abstract Class<K> getConfigClass();
 
     public abstract ApplicationId getAppId();
+
+    /**
+     * Cached information saved to disk, along with the time it was saved and
+     * the URL it was fetched from.
+     *
+     * @param <T> type of the information
+     */
+    private static final class Snapshot<T> {
+        private final long time;
+        private final String url;
+        private final Map<String, T> entries;
+
+        private Snapshot(long time, String url, Map<String, T> entries) {
+            this.time = time;
+            this.url = url;
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * Information held in the distributed cache, along with the time it was
+     * fetched from the remote URL.
+     *
+     * @param <T> type of the information
+     */
+    private static final class CachedInformation<T> {
+        private final T info;
+        private final long time;
+
+        private CachedInformation(T info, long time) {
+            this.info = info;
+            this.time = time;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CachedInformation)) {
+                return false;
+            }
+            CachedInformation<?> other = (CachedInformation<?>) obj;
+            return time == other.time && Objects.equals(info, other.info);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(info, time);
+        }
+    }
 }
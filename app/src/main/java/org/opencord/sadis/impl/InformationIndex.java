@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.opencord.sadis.BaseInformation;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Reverse index from a secondary key to the IDs of the information holding
+ * it. The index may briefly hold IDs whose information no longer has the
+ * key, so lookups check every candidate against its current information.
+ *
+ * @param <T> type of information indexed
+ * @param <K> type of the secondary key
+ */
+final class InformationIndex<T extends BaseInformation, K> {
+
+    private final Function<T, Collection<K>> keys;
+    /*
+     * IDs holding each key. Most keys, such as circuit IDs, are held by a
+     * single ID, which is stored as is; a set is only created for the keys
+     * held by several IDs.
+     */
+    private final ConcurrentMap<K, Object> index = Maps.newConcurrentMap();
+
+    /**
+     * Creates an index over the keys extracted by the given function.
+     *
+     * @param keys function returning the keys of some information, which may contain nulls
+     */
+    InformationIndex(Function<T, Collection<K>> keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Indexes the given information.
+     *
+     * @param info information to index
+     */
+    void add(T info) {
+        for (K key : keys.apply(info)) {
+            if (key != null) {
+                index.compute(key, (k, held) -> add(held, info.id()));
+            }
+        }
+    }
+
+    /**
+     * Removes the given information from the index, unless the information
+     * currently held for its ID still has the same key.
+     *
+     * @param info    information no longer held
+     * @param current function returning the information currently held for an ID, or null
+     */
+    void remove(T info, Function<String, T> current) {
+        for (K key : keys.apply(info)) {
+            if (key != null) {
+                index.computeIfPresent(key, (k, ids) -> {
+                    T held = current.apply(info.id());
+                    if (held != null && keys.apply(held).contains(k)) {
+                        return ids;
+                    }
+                    return remove(ids, info.id());
+                });
+            }
+        }
+    }
+
+    /**
+     * Returns the information currently held with the given key.
+     *
+     * @param key     secondary key
+     * @param current function returning the information currently held for an ID, or null
+     * @return information with the key
+     */
+    Set<T> get(K key, Function<String, T> current) {
+        Object held = key == null ? null : index.get(key);
+        if (held == null) {
+            return ImmutableSet.of();
+        }
+        ImmutableSet.Builder<T> result = ImmutableSet.builder();
+        for (String id : ids(held)) {
+            T info = current.apply(id);
+            if (info != null && keys.apply(info).contains(key)) {
+                result.add(info);
+            }
+        }
+        return result.build();
+    }
+
+    private static Object add(Object held, String id) {
+        if (held == null || held.equals(id)) {
+            return id;
+        }
+        if (held instanceof String) {
+            Set<String> ids = Sets.newConcurrentHashSet();
+            ids.add((String) held);
+            ids.add(id);
+            return ids;
+        }
+        ids(held).add(id);
+        return held;
+    }
+
+    private static Object remove(Object held, String id) {
+        if (held instanceof String) {
+            return held.equals(id) ? null : held;
+        }
+        Set<String> ids = ids(held);
+        ids.remove(id);
+        return ids.isEmpty() ? null : ids;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> ids(Object held) {
+        return held instanceof String ? ImmutableSet.of((String) held) : (Set<String>) held;
+    }
+}
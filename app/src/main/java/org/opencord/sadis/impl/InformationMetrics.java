@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
+
+/**
+ * Counters and timers of the lookups answered by an information adapter.
+ */
+final class InformationMetrics {
+
+    private static final String COMPONENT = "sadis";
+
+    final Counter hits;
+    final Counter localHits;
+    final Counter misses;
+    final Counter negativeHits;
+    final Counter staleHits;
+    final Counter offHeapHits;
+    final Counter evictions;
+    final Counter remoteFailures;
+    final Timer remoteFetches;
+
+    /**
+     * Creates metrics that are not registered anywhere.
+     */
+    InformationMetrics() {
+        hits = new Counter();
+        localHits = new Counter();
+        misses = new Counter();
+        negativeHits = new Counter();
+        staleHits = new Counter();
+        offHeapHits = new Counter();
+        evictions = new Counter();
+        remoteFailures = new Counter();
+        remoteFetches = new Timer();
+    }
+
+    /**
+     * Creates metrics registered with the metrics service, under the sadis
+     * component and the given feature.
+     *
+     * @param metricsService metrics service
+     * @param featureName    name of the feature, one per adapter
+     */
+    InformationMetrics(MetricsService metricsService, String featureName) {
+        MetricsComponent component = metricsService.registerComponent(COMPONENT);
+        MetricsFeature feature = component.registerFeature(featureName);
+        hits = metricsService.createCounter(component, feature, "hits");
+        localHits = metricsService.createCounter(component, feature, "localHits");
+        misses = metricsService.createCounter(component, feature, "misses");
+        negativeHits = metricsService.createCounter(component, feature, "negativeHits");
+        staleHits = metricsService.createCounter(component, feature, "staleHits");
+        offHeapHits = metricsService.createCounter(component, feature, "offHeapHits");
+        evictions = metricsService.createCounter(component, feature, "evictions");
+        remoteFailures = metricsService.createCounter(component, feature, "remoteFailures");
+        remoteFetches = metricsService.createTimer(component, feature, "remoteFetches");
+    }
+}
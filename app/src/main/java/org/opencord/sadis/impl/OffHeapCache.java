@@ -0,0 +1,260 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.Lists;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Cache of serialized information held in direct memory, outside of the
+ * heap. The memory is split in fixed size blocks and each entry takes as
+ * many blocks as its size requires, so the memory never needs compacting.
+ * When the memory is full, the least recently used entries are evicted.
+ * <p>
+ * Only the keys and the block numbers of the entries are held in the heap.
+ */
+final class OffHeapCache {
+
+    static final int BLOCK_SIZE = 64;
+
+    // blocks are spread over several buffers, as a buffer is limited to 2 GB
+    private static final int BLOCKS_PER_BUFFER = (1 << 30) / BLOCK_SIZE;
+
+    private final long capacity;
+    private final long ttlNanos;
+    private final BiConsumer<String, byte[]> evictionListener;
+    private final Ticker ticker;
+    // released once the cache is closed
+    private ByteBuffer[] buffers;
+    private final int[] freeBlocks;
+    private int freeCount;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity         memory allocated to the cache, in bytes
+     * @param ttl              time after which an entry expires, in seconds
+     * @param evictionListener consumer of the entries evicted to make room for others or expired
+     * @param ticker           source of the time
+     */
+    OffHeapCache(long capacity, long ttl, BiConsumer<String, byte[]> evictionListener, Ticker ticker) {
+        int blocks = (int) Math.min(capacity / BLOCK_SIZE, Integer.MAX_VALUE);
+        this.capacity = (long) blocks * BLOCK_SIZE;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttl);
+        this.evictionListener = evictionListener;
+        this.ticker = ticker;
+        buffers = new ByteBuffer[(blocks + BLOCKS_PER_BUFFER - 1) / BLOCKS_PER_BUFFER];
+        for (int i = 0; i < buffers.length; i++) {
+            int size = Math.min(blocks - i * BLOCKS_PER_BUFFER, BLOCKS_PER_BUFFER);
+            buffers[i] = ByteBuffer.allocateDirect(size * BLOCK_SIZE);
+        }
+        freeBlocks = new int[blocks];
+        for (int i = 0; i < blocks; i++) {
+            freeBlocks[i] = blocks - 1 - i;
+        }
+        freeCount = blocks;
+    }
+
+    /**
+     * Returns the memory allocated to the cache.
+     *
+     * @return capacity in bytes
+     */
+    long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the time after which an entry expires.
+     *
+     * @return TTL in seconds
+     */
+    long ttl() {
+        return TimeUnit.NANOSECONDS.toSeconds(ttlNanos);
+    }
+
+    /**
+     * Adds an entry, evicting the least recently used ones if there is not
+     * enough free memory for it. Entries larger than the cache, or added once
+     * the cache is closed, are ignored.
+     *
+     * @param key   key of the entry
+     * @param value serialized information
+     */
+    void put(String key, byte[] value) {
+        int needed = (value.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (needed > freeBlocks.length) {
+            return;
+        }
+        List<Map.Entry<String, byte[]>> evicted = Lists.newArrayList();
+        synchronized (this) {
+            if (buffers == null) {
+                return;
+            }
+            Entry replaced = entries.remove(key);
+            if (replaced != null) {
+                release(replaced);
+            }
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (freeCount < needed) {
+                Map.Entry<String, Entry> entry = eldest.next();
+                evicted.add(Map.entry(entry.getKey(), read(entry.getValue())));
+                release(entry.getValue());
+                eldest.remove();
+            }
+            int[] blocks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                blocks[i] = freeBlocks[--freeCount];
+                ByteBuffer buffer = buffers[blocks[i] / BLOCKS_PER_BUFFER];
+                buffer.position((blocks[i] % BLOCKS_PER_BUFFER) * BLOCK_SIZE);
+                buffer.put(value, i * BLOCK_SIZE, Math.min(BLOCK_SIZE, value.length - i * BLOCK_SIZE));
+            }
+            entries.put(key, new Entry(blocks, value.length, ticker.read()));
+        }
+        evicted.forEach(entry -> evictionListener.accept(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Removes an entry and returns it, unless it expired. An expired entry is
+     * handed to the eviction listener instead.
+     *
+     * @param key key of the entry
+     * @return serialized information, or null if not held
+     */
+    byte[] take(String key) {
+        byte[] value;
+        boolean expired;
+        synchronized (this) {
+            Entry entry = entries.remove(key);
+            if (entry == null) {
+                return null;
+            }
+            value = read(entry);
+            expired = ticker.read() - entry.time >= ttlNanos;
+            release(entry);
+        }
+        if (expired) {
+            evictionListener.accept(key, value);
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * Removes the expired entries, handing them to the eviction listener.
+     *
+     * @return number of entries removed
+     */
+    int sweep() {
+        List<Map.Entry<String, byte[]>> expired = Lists.newArrayList();
+        synchronized (this) {
+            long now = ticker.read();
+            // entries are only reordered when added, so the oldest come first
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (eldest.hasNext()) {
+                Map.Entry<String, Entry> entry = eldest.next();
+                if (now - entry.getValue().time < ttlNanos) {
+                    break;
+                }
+                expired.add(Map.entry(entry.getKey(), read(entry.getValue())));
+                release(entry.getValue());
+                eldest.remove();
+            }
+        }
+        expired.forEach(entry -> evictionListener.accept(entry.getKey(), entry.getValue()));
+        return expired.size();
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param key key of the entry
+     */
+    synchronized void invalidate(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            release(entry);
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    synchronized void invalidateAll() {
+        entries.values().forEach(this::release);
+        entries.clear();
+    }
+
+    /**
+     * Removes all entries and releases the direct memory, leaving the cache
+     * empty. The memory is freed once the buffers are garbage collected.
+     */
+    synchronized void close() {
+        entries.clear();
+        freeCount = 0;
+        buffers = null;
+    }
+
+    /**
+     * Returns the number of entries held, including the expired ones not
+     * removed yet.
+     *
+     * @return number of entries
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private byte[] read(Entry entry) {
+        byte[] value = new byte[entry.length];
+        for (int i = 0; i < entry.blocks.length; i++) {
+            ByteBuffer buffer = buffers[entry.blocks[i] / BLOCKS_PER_BUFFER];
+            buffer.position((entry.blocks[i] % BLOCKS_PER_BUFFER) * BLOCK_SIZE);
+            buffer.get(value, i * BLOCK_SIZE, Math.min(BLOCK_SIZE, entry.length - i * BLOCK_SIZE));
+        }
+        return value;
+    }
+
+    private void release(Entry entry) {
+        for (int block : entry.blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    /**
+     * Location of an entry in the direct memory.
+     */
+    private static final class Entry {
+        private final int[] blocks;
+        private final int length;
+        private final long time;
+
+        private Entry(int[] blocks, int length, long time) {
+            this.blocks = blocks;
+            this.length = length;
+            this.time = time;
+        }
+    }
+}
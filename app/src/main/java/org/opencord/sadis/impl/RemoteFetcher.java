@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Retrieves the documents describing a single piece of information from the
+ * remote integration URL.
+ */
+public interface RemoteFetcher {
+
+    /**
+     * Fetches the document at the given URL. The caller is responsible for
+     * closing the returned stream.
+     *
+     * @param url URL of the document, with the ID already substituted
+     * @return stream with the content of the document, or null if the remote
+     * source has no document for it
+     * @throws RemoteRejectedException if the remote source rejected the request with a client error
+     * @throws IOException if the request failed or the remote source returned an error
+     */
+    InputStream fetch(String url) throws IOException;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import java.io.IOException;
+
+/**
+ * Signals that the remote URL rejected a request with a client error, such
+ * as a wrong URL or missing credentials. Unlike other failures, sending the
+ * request again would not help.
+ */
+public class RemoteRejectedException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param status HTTP status of the response
+     * @param url    URL of the rejected request
+     */
+    public RemoteRejectedException(int status, String url) {
+        super("Request rejected with status " + status + " by remote URL " + url);
+        this.status = status;
+    }
+
+    /**
+     * Returns the HTTP status the request was rejected with.
+     *
+     * @return HTTP status
+     */
+    public int status() {
+        return status;
+    }
+}
@@ -15,18 +15,25 @@
  */
 package org.opencord.sadis.impl;
 
+import com.google.common.base.Ticker;
 import com.google.common.collect.Lists;
+import org.onlab.metrics.MetricsService;
 import org.onosproject.codec.CodecService;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.core.CoreService;
+import org.onosproject.event.AbstractListenerManager;
 import org.onosproject.net.config.ConfigFactory;
 import org.onosproject.net.config.NetworkConfigEvent;
 import org.onosproject.net.config.NetworkConfigListener;
 import org.onosproject.net.config.NetworkConfigRegistry;
+import org.onosproject.store.service.StorageService;
 import org.opencord.sadis.BandwidthProfileInformation;
 import org.opencord.sadis.BaseInformationService;
+import org.opencord.sadis.SadisEvent;
+import org.opencord.sadis.SadisListener;
 import org.opencord.sadis.SadisService;
 import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.SubscriberAndDeviceInformationService;
 import org.opencord.sadis.UniTagInformation;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -40,7 +47,7 @@ import java.util.List;
 import java.util.Set;
 
 @Component(immediate = true)
-public class SadisManager implements SadisService {
+public class SadisManager extends AbstractListenerManager<SadisEvent, SadisListener> implements SadisService {
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     private static final String SADIS_APP = "org.opencord.sadis";
@@ -54,6 +61,15 @@ public class SadisManager implements SadisService {
     @Reference(cardinality = ReferenceCardinality.MANDATORY)
     protected CodecService codecService;
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL)
+    protected volatile StorageService storageService;
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL)
+    protected volatile MetricsService metricsService;
+
+    // Source of the time used by the adapters, replaced by the tests
+    Ticker ticker = Ticker.systemTicker();
+
     private final InternalConfigListener cfgListener = new InternalConfigListener();
 
     private SubscriberManager subscriberManager;
@@ -66,12 +82,24 @@ public class SadisManager implements SadisService {
         ApplicationId appId = this.coreService.registerApplication(SADIS_APP);
         cfgService.addListener(this.cfgListener);
 
-        subscriberManager = new SubscriberManager(appId);
-        bandwidthProfileManager = new BandwidthProfileManager(appId);
+        subscriberManager = new SubscriberManager(appId, ticker);
+        bandwidthProfileManager = new BandwidthProfileManager(appId, ticker);
 
         internalServices.add(subscriberManager);
         internalServices.add(bandwidthProfileManager);
 
+        eventDispatcher.addSink(SadisEvent.class, listenerRegistry);
+        subscriberManager.setEventSink(this::post);
+        bandwidthProfileManager.setEventSink(this::post);
+        if (storageService != null) {
+            subscriberManager.setStorageService(storageService);
+            bandwidthProfileManager.setStorageService(storageService);
+        }
+        if (metricsService != null) {
+            subscriberManager.setMetricsService(metricsService);
+            bandwidthProfileManager.setMetricsService(metricsService);
+        }
+
         registerAdapters();
 
         codecService.registerCodec(UniTagInformation.class, new UniTagInformationCodec());
@@ -84,12 +112,15 @@ public class SadisManager implements SadisService {
             registerConfigFactory(service.getConfigFactories());
             registerCodec(service);
             service.updateConfig(cfgService);
+            service.warmUp(cfgService);
         });
     }
 
     @Deactivate
     protected void deactivate() {
         cfgService.removeListener(cfgListener);
+        internalServices.forEach(InformationAdapter::shutdown);
+        eventDispatcher.removeSink(SadisEvent.class);
         log.info("Stopped");
     }
 
@@ -107,6 +138,11 @@ public class SadisManager implements SadisService {
         return subscriberManager;
     }
 
+    @Override
+    public SubscriberAndDeviceInformationService getSubscriberLookupService() {
+        return subscriberManager;
+    }
+
     @Override
     public BaseInformationService<BandwidthProfileInformation> getBandwidthProfileService() {
         return bandwidthProfileManager;
@@ -126,6 +162,8 @@ public class SadisManager implements SadisService {
                 internalServices.forEach(adapter -> {
                     if (event.configClass().equals(adapter.getConfigClass())) {
                         adapter.updateConfig(cfgService);
+                        // configuration restored after activation, the cache still needs warming up
+                        adapter.warmUp(cfgService);
                         log.info("Reconfigured");
                     }
                 });
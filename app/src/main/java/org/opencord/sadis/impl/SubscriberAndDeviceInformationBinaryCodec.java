@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.UniTagInformation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary codec of subscriber and device information.
+ * <p>
+ * Format version 1: flags (hardware identifier, IP address and UNI tag list
+ * present), ID, NAS port ID, uplink port, slot, hardware identifier, IP
+ * address, NAS ID, circuit ID, remote ID, NNI DHCP trap VLAN ID, then the
+ * number of UNI tags and the UNI tags in the layout of
+ * {@link UniTagInformationBinaryCodec}, sharing the strings of the record.
+ */
+public final class SubscriberAndDeviceInformationBinaryCodec extends BinaryCodec<SubscriberAndDeviceInformation> {
+
+    static final int VERSION = 1;
+
+    private static final int HARDWARE_IDENTIFIER = 1;
+    private static final int IP_ADDRESS = 1 << 1;
+    private static final int UNI_TAG_LIST = 1 << 2;
+
+    private final UniTagInformationBinaryCodec uniTagCodec = new UniTagInformationBinaryCodec();
+
+    @Override
+    protected int version() {
+        return VERSION;
+    }
+
+    @Override
+    void write(SubscriberAndDeviceInformation info, Writer out) {
+        out.writeVarInt((info.hardwareIdentifier() != null ? HARDWARE_IDENTIFIER : 0) |
+                                (info.ipAddress() != null ? IP_ADDRESS : 0) |
+                                (info.uniTagList() != null ? UNI_TAG_LIST : 0));
+        out.writeString(info.id());
+        out.writeString(info.nasPortId());
+        out.writeSignedVarInt(info.uplinkPort());
+        out.writeSignedVarInt(info.slot());
+        if (info.hardwareIdentifier() != null) {
+            out.writeMacAddress(info.hardwareIdentifier());
+        }
+        if (info.ipAddress() != null) {
+            out.writeIp4Address(info.ipAddress());
+        }
+        out.writeString(info.nasId());
+        out.writeString(info.circuitId());
+        out.writeString(info.remoteId());
+        out.writeVlanId(info.nniDhcpTrapVid());
+        if (info.uniTagList() != null) {
+            out.writeVarInt(info.uniTagList().size());
+            for (UniTagInformation uniTag : info.uniTagList()) {
+                uniTagCodec.write(uniTag, out);
+            }
+        }
+    }
+
+    @Override
+    SubscriberAndDeviceInformation read(Reader in) {
+        int flags = in.readVarInt();
+        SubscriberAndDeviceInformation info = new SubscriberAndDeviceInformation();
+        info.setId(in.readString());
+        info.setNasPortId(in.readString());
+        info.setUplinkPort(in.readSignedVarInt());
+        info.setSlot(in.readSignedVarInt());
+        if ((flags & HARDWARE_IDENTIFIER) != 0) {
+            info.setHardwareIdentifier(in.readMacAddress());
+        }
+        if ((flags & IP_ADDRESS) != 0) {
+            info.setIPAddress(in.readIp4Address());
+        }
+        info.setNasId(in.readString());
+        info.setCircuitId(in.readString());
+        info.setRemoteId(in.readString());
+        info.setNniDhcpTrapVid(in.readVlanId());
+        if ((flags & UNI_TAG_LIST) != 0) {
+            int size = in.readVarInt();
+            List<UniTagInformation> uniTags = new ArrayList<>(Math.min(size, 16));
+            for (int i = 0; i < size; i++) {
+                uniTags.add(uniTagCodec.read(in));
+            }
+            info.setUniTagList(uniTags);
+        }
+        return info;
+    }
+}
@@ -100,8 +100,7 @@ public class SubscriberAndDeviceInformationCodec extends JsonCodec<SubscriberAnd
         if (json.get(UNI_TAG_LIST) != null) {
             List<UniTagInformation> uniTagList = new ArrayList<>();
             json.get(UNI_TAG_LIST).forEach(entry -> {
-                uniTagList.add(new SubscriberAndDeviceInformationConfig()
-                        .getUniTagInformation(entry));
+                uniTagList.add(SubscriberAndDeviceInformationConfig.getUniTagInformation(entry));
 
             });
             info.setUniTagList(uniTagList);
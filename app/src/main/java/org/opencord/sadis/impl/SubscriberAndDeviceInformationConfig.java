@@ -22,6 +22,8 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.onlab.packet.Ip4Address;
 import org.onlab.packet.VlanId;
 import org.opencord.sadis.BaseConfig;
@@ -111,47 +113,75 @@ public class SubscriberAndDeviceInformationConfig extends BaseConfig<SubscriberA
     private static final String IS_PPPOE_REQ = "isPppoeRequired";
     private static final String MAC_ADDRESS = "configuredMacAddress";
 
-    public List<SubscriberAndDeviceInformation> getEntries() {
-        List<SubscriberAndDeviceInformation> result = new ArrayList<>();
-        ObjectMapper mapper = new ObjectMapper();
+    /*
+     * Canonical instances of the values repeated across subscribers, shared
+     * by all the information parsed from the configuration or the remote URL.
+     * All of them are immutable. Weak interners let the values no longer
+     * referenced by any subscriber be collected.
+     */
+    private static final Interner<UniTagInformation> UNI_TAGS = Interners.newWeakInterner();
+    private static final Interner<String> NAMES = Interners.newWeakInterner();
+    private static final VlanId[] VLAN_IDS = new VlanId[VlanId.ANY_VALUE + 1];
+
+    // shared by all configurations, the mapper is not reconfigured after this
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(module());
+
+    /**
+     * Returns a module with the deserializers needed to read subscriber and
+     * device information from JSON.
+     *
+     * @return deserializer module
+     */
+    public static SimpleModule module() {
         SimpleModule module = new SimpleModule();
         module.addDeserializer(VlanId.class, new VlanIdDeserializer());
         module.addDeserializer(Ip4Address.class, new Ip4AddressDeserializer());
         module.addDeserializer(UniTagInformation.class, new UniTagDeserializer());
-        mapper.registerModule(module);
-        final JsonNode entries = this.object.path(ENTRIES);
+        return module;
+    }
+
+    @Override
+    public List<SubscriberAndDeviceInformation> getEntries() {
+        List<SubscriberAndDeviceInformation> result = new ArrayList<>();
+        final JsonNode entries = getEntriesJson();
         entries.forEach(entry -> {
-            try {
-                result.add(mapper.readValue(entry.toString(), SubscriberAndDeviceInformation.class));
-            } catch (IOException e) {
-                log.warn("Unable to parse configuration entry, '{}', error: {}", entry, e.getMessage());
+            SubscriberAndDeviceInformation info = getEntry(entry);
+            if (info != null) {
+                result.add(info);
             }
         });
 
         return result;
     }
 
-    public class VlanIdDeserializer extends JsonDeserializer<VlanId> {
+    @Override
+    public SubscriberAndDeviceInformation getEntry(JsonNode entry) {
+        try {
+            return MAPPER.treeToValue(entry, SubscriberAndDeviceInformation.class);
+        } catch (IOException e) {
+            log.warn("Unable to parse configuration entry, '{}', error: {}", entry, e.getMessage());
+            return null;
+        }
+    }
+
+    public static class VlanIdDeserializer extends JsonDeserializer<VlanId> {
         @Override
         public VlanId deserialize(JsonParser jp, DeserializationContext ctxt)
                 throws IOException {
-            ObjectCodec oc = jp.getCodec();
-            JsonNode node = oc.readTree(jp);
-            return VlanId.vlanId((short) node.asInt());
+            // read the scalar straight off the parser instead of building a tree for it
+            return vlanId((short) jp.getValueAsInt());
         }
     }
 
-    public class Ip4AddressDeserializer extends JsonDeserializer<Ip4Address> {
+    public static class Ip4AddressDeserializer extends JsonDeserializer<Ip4Address> {
         @Override
         public Ip4Address deserialize(JsonParser jp, DeserializationContext ctxt)
                 throws IOException {
-            ObjectCodec oc = jp.getCodec();
-            JsonNode node = oc.readTree(jp);
-            return Ip4Address.valueOf(node.asText());
+            return Ip4Address.valueOf(jp.getValueAsString());
         }
     }
 
-    public class UniTagDeserializer extends JsonDeserializer<UniTagInformation> {
+    public static class UniTagDeserializer extends JsonDeserializer<UniTagInformation> {
         @Override
         public UniTagInformation deserialize(JsonParser jp, DeserializationContext ctxt)
                 throws IOException {
@@ -161,16 +191,47 @@ public class SubscriberAndDeviceInformationConfig extends BaseConfig<SubscriberA
         }
     }
 
-    public UniTagInformation getUniTagInformation(JsonNode node) {
-        String usBw = node.get(US_BW) == null ? null : node.get(US_BW).asText();
-        String dsBw = node.get(DS_BW) == null ? null : node.get(DS_BW).asText();
-        return new UniTagInformation.Builder()
-                .setUniTagMatch(VlanId.vlanId(node.get(UNI_TAG_MATCH) == null ? VlanId.NO_VID
+    /**
+     * Returns the canonical instance of the given VLAN ID.
+     *
+     * @param value VLAN ID value
+     * @return VLAN ID
+     */
+    static VlanId vlanId(short value) {
+        if (value < 0 || value >= VLAN_IDS.length) {
+            return VlanId.vlanId(value);
+        }
+        // racing threads may both create it, either instance will do
+        VlanId vlanId = VLAN_IDS[value];
+        if (vlanId == null) {
+            vlanId = VlanId.vlanId(value);
+            VLAN_IDS[value] = vlanId;
+        }
+        return vlanId;
+    }
+
+    private static String name(JsonNode node) {
+        return node == null ? null : NAMES.intern(node.asText());
+    }
+
+    /**
+     * Parses a UNI tag. Identical UNI tags, as found for all the subscribers
+     * of a service template, are returned as the same instance, and the
+     * names and VLAN IDs they hold are shared with the other UNI tags.
+     *
+     * @param node JSON of the UNI tag
+     * @return canonical UNI tag information
+     */
+    public static UniTagInformation getUniTagInformation(JsonNode node) {
+        String usBw = name(node.get(US_BW));
+        String dsBw = name(node.get(DS_BW));
+        return UNI_TAGS.intern(new UniTagInformation.Builder()
+                .setUniTagMatch(vlanId(node.get(UNI_TAG_MATCH) == null ? VlanId.NO_VID
                         : (short) node.get(UNI_TAG_MATCH).asInt()))
-                .setPonCTag(node.get(PON_C_TAG) == null ? VlanId.vlanId(VlanId.NO_VID) :
-                                    VlanId.vlanId(node.get(PON_C_TAG).shortValue()))
-                .setPonSTag(node.get(PON_S_TAG) == null ? VlanId.vlanId(VlanId.NO_VID) :
-                                    VlanId.vlanId(node.get(PON_S_TAG).shortValue()))
+                .setPonCTag(node.get(PON_C_TAG) == null ? vlanId(VlanId.NO_VID) :
+                                    vlanId(node.get(PON_C_TAG).shortValue()))
+                .setPonSTag(node.get(PON_S_TAG) == null ? vlanId(VlanId.NO_VID) :
+                                    vlanId(node.get(PON_S_TAG).shortValue()))
                 .setUsPonCTagPriority(node.get(US_C_TAG_PCP) == null ? NO_PCP :
                         node.get(US_C_TAG_PCP).asInt())
                 .setUsPonSTagPriority(node.get(US_S_TAG_PCP) == null ? NO_PCP :
@@ -184,16 +245,16 @@ public class SubscriberAndDeviceInformationConfig extends BaseConfig<SubscriberA
                 .setUpstreamBandwidthProfile(usBw)
                 .setDownstreamBandwidthProfile(dsBw)
                 .setUpstreamOltBandwidthProfile(node.get(US_OLT_BW) == null ? usBw
-                        : node.get(US_OLT_BW).asText())
+                        : name(node.get(US_OLT_BW)))
                 .setDownstreamOltBandwidthProfile(node.get(DS_OLT_BW) == null ? dsBw
-                        : node.get(DS_OLT_BW).asText())
+                        : name(node.get(DS_OLT_BW)))
                 .setServiceName(node.get(SERVICE_NAME) == null ? NO_SN :
-                        node.get(SERVICE_NAME).asText())
+                        name(node.get(SERVICE_NAME)))
                 .setIsDhcpRequired(node.get(IS_DHCP_REQ) != null && node.get(IS_DHCP_REQ).asBoolean())
                 .setIsIgmpRequired(node.get(IS_IGMP_REQ) != null && node.get(IS_IGMP_REQ).asBoolean())
                 .setIsPppoeRequired(node.get(IS_PPPOE_REQ) != null && node.get(IS_PPPOE_REQ).asBoolean())
                 .setConfiguredMacAddress(node.get(MAC_ADDRESS) == null ? EMPTY_MAC :
-                        node.get(MAC_ADDRESS).asText())
-                .build();
+                        name(node.get(MAC_ADDRESS)))
+                .build());
     }
 }
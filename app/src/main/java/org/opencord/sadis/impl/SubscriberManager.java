@@ -17,22 +17,26 @@ package org.opencord.sadis.impl;
 
 import static org.onosproject.net.config.basics.SubjectFactories.APP_SUBJECT_FACTORY;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.google.common.cache.CacheBuilder;
-import org.onlab.packet.Ip4Address;
+import org.onlab.packet.MacAddress;
 import org.onlab.packet.VlanId;
+import org.onlab.util.KryoNamespace;
 import org.onosproject.codec.JsonCodec;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.net.config.ConfigFactory;
 import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.SubscriberAndDeviceInformationService;
 import org.opencord.sadis.UniTagInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Ticker;
 import com.google.common.collect.ImmutableSet;
 
 /**
@@ -43,11 +47,24 @@ import com.google.common.collect.ImmutableSet;
  */
 
 public class SubscriberManager extends InformationAdapter<SubscriberAndDeviceInformation,
-        SubscriberAndDeviceInformationConfig> {
+        SubscriberAndDeviceInformationConfig> implements SubscriberAndDeviceInformationService {
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     private ApplicationId appId;
 
+    private final InformationIndex<SubscriberAndDeviceInformation, String> circuitIds =
+            addIndex(info -> Collections.singletonList(info.circuitId()));
+    private final InformationIndex<SubscriberAndDeviceInformation, String> remoteIds =
+            addIndex(info -> Collections.singletonList(info.remoteId()));
+    private final InformationIndex<SubscriberAndDeviceInformation, MacAddress> hardwareIdentifiers =
+            addIndex(info -> Collections.singletonList(info.hardwareIdentifier()));
+    private final InformationIndex<SubscriberAndDeviceInformation, String> nasPortIds =
+            addIndex(info -> Collections.singletonList(info.nasPortId()));
+    private final InformationIndex<SubscriberAndDeviceInformation, List<VlanId>> ponTags =
+            addIndex(SubscriberManager::ponTags);
+    private final InformationIndex<SubscriberAndDeviceInformation, String> bandwidthProfiles =
+            addIndex(SubscriberManager::bandwidthProfiles);
+
     @SuppressWarnings("rawtypes")
     private final Set<ConfigFactory> factories = ImmutableSet
             .of(new ConfigFactory<ApplicationId, SubscriberAndDeviceInformationConfig>(APP_SUBJECT_FACTORY,
@@ -60,6 +77,11 @@ public class SubscriberManager extends InformationAdapter<SubscriberAndDeviceInf
 
 
     public SubscriberManager(ApplicationId appId) {
+        this(appId, Ticker.systemTicker());
+    }
+
+    SubscriberManager(ApplicationId appId, Ticker ticker) {
+        super(ticker);
         this.appId = appId;
         this.registerModule();
         this.log.info("Started");
@@ -67,19 +89,64 @@ public class SubscriberManager extends InformationAdapter<SubscriberAndDeviceInf
 
     @Override
     public void registerModule() {
-        cache = CacheBuilder.newBuilder().maximumSize(maxiumCacheSize)
-                .expireAfterAccess(cacheEntryTtl, TimeUnit.SECONDS).build();
-        log.info("Cache is {} and this {}", cache, this);
+        resetCache();
+        log.info("Cache is {} and this {}", state.cache, this);
         mapper = new ObjectMapper();
-        SimpleModule module = new SimpleModule();
-        SubscriberAndDeviceInformationConfig config = new SubscriberAndDeviceInformationConfig();
-        SubscriberAndDeviceInformationConfig.VlanIdDeserializer vlanID = config.new VlanIdDeserializer();
-        SubscriberAndDeviceInformationConfig.Ip4AddressDeserializer ip4Address = config.new Ip4AddressDeserializer();
-        SubscriberAndDeviceInformationConfig.UniTagDeserializer uniTagSerializer = config.new UniTagDeserializer();
-        module.addDeserializer(VlanId.class, vlanID);
-        module.addDeserializer(Ip4Address.class, ip4Address);
-        module.addDeserializer(UniTagInformation.class, uniTagSerializer);
-        mapper.registerModule(module);
+        mapper.registerModule(SubscriberAndDeviceInformationConfig.module());
+    }
+
+    private static List<List<VlanId>> ponTags(SubscriberAndDeviceInformation info) {
+        if (info.uniTagList() == null) {
+            return Collections.emptyList();
+        }
+        return info.uniTagList().stream()
+                .map(uniTag -> Arrays.asList(uniTag.getPonCTag(), uniTag.getPonSTag()))
+                .collect(Collectors.toList());
+    }
+
+    private static Set<String> bandwidthProfiles(SubscriberAndDeviceInformation info) {
+        if (info.uniTagList() == null) {
+            return Collections.emptySet();
+        }
+        return info.uniTagList().stream()
+                .flatMap(uniTag -> uniTag.bandwidthProfiles().stream())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<SubscriberAndDeviceInformation> getByCircuitId(String circuitId) {
+        return circuitIds.get(circuitId, this::peek);
+    }
+
+    @Override
+    public Set<SubscriberAndDeviceInformation> getByRemoteId(String remoteId) {
+        return remoteIds.get(remoteId, this::peek);
+    }
+
+    @Override
+    public Set<SubscriberAndDeviceInformation> getByHardwareIdentifier(MacAddress hardwareIdentifier) {
+        return hardwareIdentifiers.get(hardwareIdentifier, this::peek);
+    }
+
+    @Override
+    public Set<SubscriberAndDeviceInformation> getByNasPortId(String nasPortId) {
+        return nasPortIds.get(nasPortId, this::peek);
+    }
+
+    @Override
+    public Set<SubscriberAndDeviceInformation> getByPonTags(VlanId ponCTag, VlanId ponSTag) {
+        return ponTags.get(Arrays.asList(ponCTag, ponSTag), this::peek);
+    }
+
+    @Override
+    public Set<SubscriberAndDeviceInformation> getByBandwidthProfile(String bandwidthProfileId) {
+        return bandwidthProfiles.get(bandwidthProfileId, this::peek);
+    }
+
+    @Override
+    protected KryoNamespace.Builder serializerNamespace() {
+        return super.serializerNamespace().register(new UniTagInformationBinaryCodec().kryoSerializer(),
+                                                    UniTagInformation.class);
     }
 
     @Override
@@ -97,6 +164,11 @@ public class SubscriberManager extends InformationAdapter<SubscriberAndDeviceInf
         return new SubscriberAndDeviceInformationCodec();
     }
 
+    @Override
+    public BinaryCodec<SubscriberAndDeviceInformation> getBinaryCodec() {
+        return new SubscriberAndDeviceInformationBinaryCodec();
+    }
+
     @Override
     public Class<SubscriberAndDeviceInformation> getInformationClass() {
         return SubscriberAndDeviceInformation.class;
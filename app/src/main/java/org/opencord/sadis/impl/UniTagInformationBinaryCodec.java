@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.impl;
+
+import org.opencord.sadis.UniTagInformation;
+
+/**
+ * Binary codec of UNI tag information.
+ * <p>
+ * Format version 1: flags (MAC learning, DHCP, IGMP, PPPoE), UNI tag match,
+ * PON C-tag and S-tag, upstream and downstream C-tag and S-tag priorities,
+ * technology profile ID, upstream, downstream, upstream OLT and downstream
+ * OLT bandwidth profiles, service name and configured MAC address.
+ */
+public final class UniTagInformationBinaryCodec extends BinaryCodec<UniTagInformation> {
+
+    static final int VERSION = 1;
+
+    private static final int MAC_LEARNING = 1;
+    private static final int DHCP_REQUIRED = 1 << 1;
+    private static final int IGMP_REQUIRED = 1 << 2;
+    private static final int PPPOE_REQUIRED = 1 << 3;
+
+    @Override
+    protected int version() {
+        return VERSION;
+    }
+
+    @Override
+    void write(UniTagInformation info, Writer out) {
+        out.writeVarInt((info.getEnableMacLearning() ? MAC_LEARNING : 0) |
+                                (info.getIsDhcpRequired() ? DHCP_REQUIRED : 0) |
+                                (info.getIsIgmpRequired() ? IGMP_REQUIRED : 0) |
+                                (info.getIsPppoeRequired() ? PPPOE_REQUIRED : 0));
+        out.writeVlanId(info.getUniTagMatch());
+        out.writeVlanId(info.getPonCTag());
+        out.writeVlanId(info.getPonSTag());
+        out.writeSignedVarInt(info.getUsPonCTagPriority());
+        out.writeSignedVarInt(info.getUsPonSTagPriority());
+        out.writeSignedVarInt(info.getDsPonCTagPriority());
+        out.writeSignedVarInt(info.getDsPonSTagPriority());
+        out.writeSignedVarInt(info.getTechnologyProfileId());
+        out.writeString(info.getUpstreamBandwidthProfile());
+        out.writeString(info.getDownstreamBandwidthProfile());
+        out.writeString(info.getUpstreamOltBandwidthProfile());
+        out.writeString(info.getDownstreamOltBandwidthProfile());
+        out.writeString(info.getServiceName());
+        out.writeString(info.getConfiguredMacAddress());
+    }
+
+    @Override
+    UniTagInformation read(Reader in) {
+        int flags = in.readVarInt();
+        return new UniTagInformation.Builder()
+                .setEnableMacLearning((flags & MAC_LEARNING) != 0)
+                .setIsDhcpRequired((flags & DHCP_REQUIRED) != 0)
+                .setIsIgmpRequired((flags & IGMP_REQUIRED) != 0)
+                .setIsPppoeRequired((flags & PPPOE_REQUIRED) != 0)
+                .setUniTagMatch(in.readVlanId())
+                .setPonCTag(in.readVlanId())
+                .setPonSTag(in.readVlanId())
+                .setUsPonCTagPriority(in.readSignedVarInt())
+                .setUsPonSTagPriority(in.readSignedVarInt())
+                .setDsPonCTagPriority(in.readSignedVarInt())
+                .setDsPonSTagPriority(in.readSignedVarInt())
+                .setTechnologyProfileId(in.readSignedVarInt())
+                .setUpstreamBandwidthProfile(in.readString())
+                .setDownstreamBandwidthProfile(in.readString())
+                .setUpstreamOltBandwidthProfile(in.readString())
+                .setDownstreamOltBandwidthProfile(in.readString())
+                .setServiceName(in.readString())
+                .setConfiguredMacAddress(in.readString())
+                .build();
+    }
+}
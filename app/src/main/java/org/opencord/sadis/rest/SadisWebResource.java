@@ -20,8 +20,10 @@ import org.onosproject.rest.AbstractWebResource;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.opencord.sadis.BandwidthProfileInformation;
 import org.opencord.sadis.BaseInformationService;
+import org.opencord.sadis.InformationStatistics;
 import org.opencord.sadis.SadisService;
 import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.SubscriberAndDeviceInformationService;
 import org.onlab.util.ItemNotFoundException;
 
 import javax.ws.rs.GET;
@@ -135,6 +137,31 @@ public class SadisWebResource extends AbstractWebResource {
         return ok(root).build();
     }
 
+    /**
+     * Get the subscribers referencing a bandwidth profile, with the services
+     * that use it.
+     *
+     * @param id
+     *            ID of the bandwidth profile
+     *
+     * @return 200 OK
+     */
+    @GET
+    @Path("/bandwidthprofile/{id}/subscribers")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getBandwidthProfileSubscribers(@PathParam("id") String id) {
+        SadisService sadisService = get(SadisService.class);
+        SubscriberAndDeviceInformationService subService = sadisService.getSubscriberLookupService();
+        for (SubscriberAndDeviceInformation entry : subService.getByBandwidthProfile(id)) {
+            ObjectNode subscriber = node.addObject().put("id", entry.id());
+            ArrayNode services = subscriber.putArray("serviceNames");
+            entry.uniTagList().stream()
+                    .filter(uniTag -> uniTag.bandwidthProfiles().contains(id))
+                    .forEach(uniTag -> services.add(uniTag.getServiceName()));
+        }
+        return ok(root).build();
+    }
+
     @GET
     @Path("/cache/bandwidthprofile/{id}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -169,4 +196,36 @@ public class SadisWebResource extends AbstractWebResource {
         bpService.invalidateAll();
         return Response.noContent().build();
     }
+
+    /**
+     * Get the statistics of the subscriber and bandwidth profile lookups.
+     *
+     * @return 200 OK
+     */
+    @GET
+    @Path("/stats")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getStatistics() {
+        SadisService sadisService = get(SadisService.class);
+        ObjectNode stats = mapper().createObjectNode();
+        encode(stats.putObject("subscriber"), sadisService.getSubscriberInfoService().getStatistics());
+        encode(stats.putObject("bandwidthprofile"), sadisService.getBandwidthProfileService().getStatistics());
+        return ok(stats).build();
+    }
+
+    private static void encode(ObjectNode node, InformationStatistics stats) {
+        node.put("size", stats.size())
+                .put("hitCount", stats.hitCount())
+                .put("localHitCount", stats.localHitCount())
+                .put("missCount", stats.missCount())
+                .put("hitRate", stats.hitRate())
+                .put("negativeHitCount", stats.negativeHitCount())
+                .put("staleHitCount", stats.staleHitCount())
+                .put("offHeapHitCount", stats.offHeapHitCount())
+                .put("evictionCount", stats.evictionCount())
+                .put("remoteFetchCount", stats.remoteFetchCount())
+                .put("remoteFailureCount", stats.remoteFailureCount())
+                .put("remoteFetchMeanLatencyMs", stats.remoteFetchMeanLatency().toNanos() / 1e6)
+                .put("remoteFetch99thLatencyMs", stats.remoteFetch99thLatency().toNanos() / 1e6);
+    }
 }
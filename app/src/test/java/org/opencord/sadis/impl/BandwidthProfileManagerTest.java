@@ -24,8 +24,10 @@ import org.opencord.sadis.BaseInformationService;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class BandwidthProfileManagerTest extends BaseSadis {
@@ -99,6 +101,25 @@ public class BandwidthProfileManagerTest extends BaseSadis {
         checkFromBoth("HighSpeed", bp1, service);
     }
 
+    @Test
+    public void testAsyncLocalMode() throws Exception {
+        BaseInformationService<BandwidthProfileInformation> bpService = sadis.getBandwidthProfileService();
+        CompletableFuture<BandwidthProfileInformation> local = bpService.getAsync("High Speed");
+        assertTrue(local.isDone());
+        assertTrue(checkEquality(bp1, local.get()));
+        assertNull(bpService.getAsync("non-existent").get());
+    }
+
+    @Test
+    public void testBinaryCodec() {
+        BandwidthProfileBinaryCodec codec = new BandwidthProfileBinaryCodec();
+        for (BandwidthProfileInformation bp : List.of(bp1, bp2, bp3, bp4, bp5, bp6, bp7)) {
+            assertTrue(checkEquality(bp, codec.decode(codec.encode(bp))));
+        }
+        BandwidthProfileInformation empty = new BandwidthProfileInformation();
+        assertEquals(empty, codec.decode(codec.encode(empty)));
+    }
+
     private void checkEntriesForBandwidthProfiles(BaseConfig config) {
         List<BandwidthProfileInformation> entries = config.getEntries();
         assertEquals(7, entries.size());
@@ -18,10 +18,15 @@ package org.opencord.sadis.impl;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
+import com.google.common.testing.FakeTicker;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
 import org.onlab.packet.Ip4Address;
 import org.onlab.packet.MacAddress;
 import org.onlab.packet.VlanId;
 import org.onosproject.codec.impl.CodecManager;
+import org.onosproject.common.event.impl.TestEventDispatcher;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.core.CoreServiceAdapter;
 import org.onosproject.net.config.ConfigApplyDelegate;
@@ -29,20 +34,33 @@ import org.onosproject.net.config.NetworkConfigRegistryAdapter;
 import org.onosproject.net.config.NetworkConfigListener;
 import org.onosproject.net.config.Config;
 import org.onosproject.net.config.NetworkConfigEvent;
+import org.onosproject.store.service.EventuallyConsistentMap;
+import org.onosproject.store.service.EventuallyConsistentMapBuilder;
+import org.onosproject.store.service.TestEventuallyConsistentMap;
+import org.onosproject.store.service.TestStorageService;
 import org.opencord.sadis.BaseConfig;
 import org.opencord.sadis.BaseInformation;
 import org.opencord.sadis.BaseInformationService;
 import org.opencord.sadis.SubscriberAndDeviceInformation;
 import org.opencord.sadis.UniTagInformation;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.Assert.*;
+import static org.onosproject.net.NetTestTools.injectEventDispatcher;
 
 public abstract class BaseSadis {
 
@@ -53,6 +71,10 @@ public abstract class BaseSadis {
     protected BaseConfig config;
     protected NetworkConfigEvent event;
     protected static NetworkConfigListener configListener;
+    protected final MockStorageService storageService = new MockStorageService();
+    protected final FakeTicker ticker = new FakeTicker();
+    private HttpServer remoteServer;
+    private ExecutorService remoteServerExecutor;
 
     private static final short UNI_TAG_MATCH_1 = 100;
     private static final short UNI_TAG_MATCH_2 = 200;
@@ -210,11 +232,72 @@ public abstract class BaseSadis {
         event = new NetworkConfigEvent(NetworkConfigEvent.Type.CONFIG_ADDED, subject, configClass);
 
         sadis.codecService = new CodecManager();
+        sadis.storageService = storageService;
+        sadis.ticker = ticker;
+        injectEventDispatcher(sadis, new TestEventDispatcher());
         sadis.activate();
     }
 
     public void tearDown() {
         this.sadis.deactivate();
+        if (remoteServer != null) {
+            remoteServer.stop(0);
+            remoteServerExecutor.shutdownNow();
+            remoteServer = null;
+        }
+    }
+
+    /**
+     * Starts an HTTP server standing in for the remote integration URL. The
+     * server is stopped once the test completed.
+     *
+     * @param handler handler of the requests, for the ID in the request path
+     * @return integration URL of the server, with {@code %s} in place of the ID
+     * @throws IOException if the server could not be started
+     */
+    protected String startRemoteServer(HttpHandler handler) throws IOException {
+        remoteServerExecutor = Executors.newCachedThreadPool();
+        remoteServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        remoteServer.createContext("/", handler);
+        remoteServer.setExecutor(remoteServerExecutor);
+        remoteServer.start();
+        return "http://localhost:" + remoteServer.getAddress().getPort() + "/%s";
+    }
+
+    protected static String requestedId(HttpExchange exchange) {
+        return exchange.getRequestURI().getPath().substring(1);
+    }
+
+    /**
+     * Answers the request with the test resource named after the requested
+     * ID, or with a 404 if there is none.
+     *
+     * @param exchange request to answer
+     * @throws IOException if the response could not be sent
+     */
+    protected static void respondWithResource(HttpExchange exchange) throws IOException {
+        Path file = Paths.get("src/test/resources", requestedId(exchange));
+        if (Files.isRegularFile(file)) {
+            respond(exchange, 200, Files.readAllBytes(file));
+        } else {
+            respond(exchange, 404, null);
+        }
+    }
+
+    protected static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+        } else {
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+        exchange.close();
+    }
+
+    protected static byte[] resource(String id) throws IOException {
+        return Files.readAllBytes(Paths.get("src/test/resources", id));
     }
 
     protected JsonNode node(String jsonFile) throws Exception {
@@ -386,7 +469,7 @@ public abstract class BaseSadis {
         @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
         @Override
         public <S, C extends Config<S>> C getConfig(final S subject, final Class<C> configClass) {
-            return (C) config;
+            return configClass.isInstance(config) ? (C) config : null;
         }
 
         @Override
@@ -394,4 +477,31 @@ public abstract class BaseSadis {
             configListener = listener;
         }
     }
+
+    /**
+     * Mocks the ONOS storage service so that all the builders of a map with
+     * the same name get the same map, as the instances of a cluster would.
+     */
+    static final class MockStorageService extends TestStorageService {
+        private final Map<String, EventuallyConsistentMap<?, ?>> maps = new HashMap<>();
+
+        @Override
+        public <K, V> EventuallyConsistentMapBuilder<K, V> eventuallyConsistentMapBuilder() {
+            return new TestEventuallyConsistentMap.Builder<K, V>() {
+                private String name;
+
+                @Override
+                public EventuallyConsistentMapBuilder<K, V> withName(String name) {
+                    this.name = name;
+                    return super.withName(name);
+                }
+
+                @SuppressWarnings("unchecked")
+                @Override
+                public EventuallyConsistentMap<K, V> build() {
+                    return (EventuallyConsistentMap<K, V>) maps.computeIfAbsent(name, n -> super.build());
+                }
+            };
+        }
+    }
 }
@@ -16,25 +16,71 @@
 package org.opencord.sadis.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.collect.Lists;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.VlanId;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import org.opencord.sadis.BaseConfig;
 import org.opencord.sadis.BaseInformation;
 import org.opencord.sadis.BaseInformationService;
+import org.opencord.sadis.InformationStatistics;
+import org.opencord.sadis.SadisEvent;
+import org.opencord.sadis.SadisListener;
 import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.SubscriberAndDeviceInformationService;
+import org.opencord.sadis.UniTagInformation;
 
 /**
  * Set of tests of the SADIS ONOS application component.
  */
 public class SubscriberAndDeviceManagerTest extends BaseSadis {
 
+    @Rule
+    public TemporaryFolder remoteFolder = new TemporaryFolder();
+
     @Before
     public void setUp() throws Exception {
         config = new SubscriberAndDeviceInformationConfig();
@@ -54,6 +100,55 @@ public class SubscriberAndDeviceManagerTest extends BaseSadis {
         checkEntriesForSubscriberAndAccessDevice(config);
     }
 
+    @Test
+    public void testBinaryCodec() {
+        SubscriberAndDeviceInformationBinaryCodec codec = new SubscriberAndDeviceInformationBinaryCodec();
+        List<SubscriberAndDeviceInformation> entries = sadis.cfgService.getConfig(null,
+                SubscriberAndDeviceInformationConfig.class).getEntries();
+        for (SubscriberAndDeviceInformation entry : entries) {
+            assertEquals(entry, codec.decode(codec.encode(entry)));
+        }
+        SubscriberAndDeviceInformation empty = new SubscriberAndDeviceInformation();
+        empty.setNniDhcpTrapVid(null);
+        assertEquals(empty, codec.decode(codec.encode(empty)));
+
+        UniTagInformationBinaryCodec uniTagCodec = new UniTagInformationBinaryCodec();
+        UniTagInformation uniTag = entries.get(1).uniTagList().get(1);
+        assertEquals(uniTag, uniTagCodec.decode(uniTagCodec.encode(uniTag)));
+
+        // records of other format versions, or truncated, are rejected
+        byte[] encoded = codec.encode(entries.get(0));
+        encoded[0]++;
+        checkRejected(codec, encoded);
+        checkRejected(codec, Arrays.copyOf(codec.encode(entries.get(0)), 10));
+    }
+
+    private void checkRejected(BinaryCodec<?> codec, byte[] encoded) {
+        try {
+            codec.decode(encoded);
+            fail("Decoded an invalid record");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSharedValues() {
+        SubscriberAndDeviceInformationConfig config = sadis.cfgService.getConfig(null,
+                SubscriberAndDeviceInformationConfig.class);
+        List<SubscriberAndDeviceInformation> entries = config.getEntries();
+
+        // identical UNI tags of different subscribers are the same instance
+        assertSame(entries.get(0).uniTagList().get(0), entries.get(1).uniTagList().get(0));
+        // and so are the names and VLAN IDs of different UNI tags
+        UniTagInformation hsia = entries.get(0).uniTagList().get(0);
+        UniTagInformation other = entries.get(3).uniTagList().get(0);
+        assertNotSame(hsia, other);
+        assertSame(hsia.getServiceName(), other.getServiceName());
+        assertSame(hsia.getUpstreamBandwidthProfile(), other.getUpstreamBandwidthProfile());
+        assertSame(hsia.getPonCTag(), other.getPonCTag());
+    }
+
     private void checkEntriesForSubscriberAndAccessDevice(BaseConfig config) {
         List<SubscriberAndDeviceInformation> entries = config.getEntries();
         assertEquals(4, entries.size());
@@ -82,11 +177,300 @@ public class SubscriberAndDeviceManagerTest extends BaseSadis {
     }
 
 
+    @Test
+    public void testIncrementalReload() throws Exception {
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        SubscriberAndDeviceInformation unchanged = subscriberService.get(ID5);
+        checkGetForExisting(ID1, entry1, subscriberService);
+        checkGetForExisting(ID2, entry2, subscriberService);
+
+        // change the first entry and remove the second one
+        ObjectNode updated = (ObjectNode) node("/LocalSubConfig.json");
+        ArrayNode entries = (ArrayNode) updated.get("entries");
+        ((ObjectNode) entries.get(0)).put("nasId", "ZZZ-NASID");
+        entries.remove(1);
+        config.init(subject, "sadis-incremental-reload-test", updated, mapper, delegate);
+        configListener.event(event);
+
+        assertNull(subscriberService.getfromCache(ID1));
+        assertEquals("ZZZ-NASID", subscriberService.get(ID1).nasId());
+        checkGetForNonExist(ID2, subscriberService);
+        assertSame(unchanged, subscriberService.get(ID5));
+        assertSame(unchanged, subscriberService.getfromCache(ID5));
+    }
+
+    @Test
+    public void testCompactEntries() throws Exception {
+        SubscriberAndDeviceInformationService subscriberService = sadis.getSubscriberLookupService();
+        ObjectNode compact = (ObjectNode) node("/LocalSubConfig.json");
+        compact.put("compactEntries", true);
+        config.init(subject, "sadis-compact-test", compact, mapper, delegate);
+        configListener.event(event);
+
+        checkGetForExisting(ID1, entry1, subscriberService);
+        checkGetForExisting(ID2, entry2, subscriberService);
+        checkGetForExisting(ID5, entry5, subscriberService);
+        checkGetForExisting(ID6, entry6, subscriberService);
+        assertEquals(Set.of(ID5, ID6), ids(subscriberService.getByRemoteId("remote567")));
+
+        // changes are applied to the compact entries as well
+        ArrayNode entries = (ArrayNode) compact.get("entries");
+        ((ObjectNode) entries.get(0)).put("nasId", "ZZZ-NASID");
+        entries.remove(1);
+        config.init(subject, "sadis-compact-test", compact, mapper, delegate);
+        configListener.event(event);
+        assertEquals("ZZZ-NASID", subscriberService.get(ID1).nasId());
+        checkGetForNonExist(ID2, subscriberService);
+        checkGetForExisting(ID5, entry5, subscriberService);
+
+        // and kept when switching back
+        compact.put("compactEntries", false);
+        config.init(subject, "sadis-compact-test", compact, mapper, delegate);
+        configListener.event(event);
+        subscriberService.invalidateAll();
+        assertEquals("ZZZ-NASID", subscriberService.get(ID1).nasId());
+        checkGetForExisting(ID6, entry6, subscriberService);
+    }
+
+    @Test
+    public void testSecondaryLookups() throws Exception {
+        SubscriberAndDeviceInformationService subscriberService = sadis.getSubscriberLookupService();
+
+        assertEquals(Set.of(ID1), ids(subscriberService.getByCircuitId("circuit123")));
+        assertEquals(Set.of(ID5, ID6), ids(subscriberService.getByRemoteId("remote567")));
+        assertEquals(Set.of(ID1, ID2),
+                ids(subscriberService.getByHardwareIdentifier(MacAddress.valueOf("aa:bb:cc:dd:ee:ff"))));
+        assertEquals(Set.of(ID1, ID2, ID5, ID6), ids(subscriberService.getByNasPortId("1/1/2")));
+        assertEquals(Set.of(ID2, ID5),
+                ids(subscriberService.getByPonTags(VlanId.vlanId((short) 2), VlanId.vlanId((short) 3))));
+        assertTrue(subscriberService.getByCircuitId("unknown").isEmpty());
+        assertEquals(Set.of(ID1, ID2, ID5, ID6), ids(subscriberService.getByBandwidthProfile("HSA")));
+        assertEquals(Set.of(ID2), ids(subscriberService.getByBandwidthProfile("IPTV")));
+        assertEquals(Set.of(ID6), ids(subscriberService.getByBandwidthProfile("HSA_OLT")));
+
+        // remote information is indexed while it is cached
+        config.init(subject, "sadis-remote-mode-test", node("/RemoteConfig.json"), mapper, delegate);
+        configListener.event(event);
+        assertTrue(subscriberService.getByCircuitId("circuit123").isEmpty());
+        checkGetForExisting(ID3, entry3, subscriberService);
+        assertEquals(Set.of(ID3), ids(subscriberService.getByCircuitId("circuit567")));
+        invalidateId(ID3, subscriberService);
+        assertTrue(subscriberService.getByCircuitId("circuit567").isEmpty());
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        List<SadisEvent> events = Lists.newArrayList();
+        SadisListener listener = events::add;
+        sadis.addListener(listener);
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        SubscriberAndDeviceInformation previous = subscriberService.get(ID1);
+
+        // change the first entry and remove the second one
+        ObjectNode updated = (ObjectNode) node("/LocalSubConfig.json");
+        ArrayNode entries = (ArrayNode) updated.get("entries");
+        ((ObjectNode) entries.get(0)).put("nasId", "ZZZ-NASID");
+        entries.remove(1);
+        config.init(subject, "sadis-events-test", updated, mapper, delegate);
+        configListener.event(event);
+
+        assertEquals(2, events.size());
+        assertEquals(SadisEvent.Type.UPDATED, events.get(0).type());
+        assertEquals(ID1, events.get(0).subject().id());
+        assertSame(previous, events.get(0).prevSubject());
+        assertEquals(SadisEvent.Type.REMOVED, events.get(1).type());
+        assertEquals(ID2, events.get(1).subject().id());
+
+        // remote information is added when fetched and evicted when the cache is full
+        String remoteConfig = "{\"integration\":{\"url\":\"file:src/test/resources/%s\"," +
+                "\"cache\":{\"maxsize\":1,\"ttl\":\"PT1m\"}}}";
+        config.init(subject, "sadis-events-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+        events.clear();
+        checkGetForExisting(ID3, entry3, subscriberService);
+        checkGetForExisting(ID4, entry4, subscriberService);
+
+        assertEquals(3, events.size());
+        assertEquals(SadisEvent.Type.ADDED, events.get(0).type());
+        assertEquals(ID3, events.get(0).subject().id());
+        assertEquals(SadisEvent.Type.EVICTED, events.get(1).type());
+        assertEquals(ID3, events.get(1).subject().id());
+        assertEquals(SadisEvent.Type.ADDED, events.get(2).type());
+        assertEquals(ID4, events.get(2).subject().id());
+
+        // unchanged information fetched again after it expired to the stale cache is not added again
+        remoteConfig = "{\"integration\":{\"url\":\"file:src/test/resources/%s\"," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1S\",\"stale\":{\"maxsize\":10}}}}";
+        config.init(subject, "sadis-events-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+        events.clear();
+        checkGetForExisting(ID3, entry3, subscriberService);
+        ticker.advance(1100, TimeUnit.MILLISECONDS);
+        checkGetForExisting(ID3, entry3, subscriberService);
+
+        assertEquals(1, events.size());
+        assertEquals(SadisEvent.Type.ADDED, events.get(0).type());
+        assertEquals(ID3, events.get(0).subject().id());
+
+        // without a stale cache the expired information is evicted, and added once fetched again
+        remoteConfig = remoteConfig.replace("10", "0");
+        config.init(subject, "sadis-events-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+        events.clear();
+        checkGetForExisting(ID4, entry4, subscriberService);
+        ticker.advance(1100, TimeUnit.MILLISECONDS);
+        checkGetForExisting(ID4, entry4, subscriberService);
+
+        List<SadisEvent.Type> types = events.stream().filter(e -> e.subject().id().equals(ID4))
+                .map(SadisEvent::type).collect(Collectors.toList());
+        assertEquals(Lists.newArrayList(SadisEvent.Type.ADDED, SadisEvent.Type.EVICTED, SadisEvent.Type.ADDED),
+                     types);
+
+        sadis.removeListener(listener);
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        String warmUpConfig = "{\"integration\":{\"url\":\"file:src/test/resources/%s\"," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"}," +
+                "\"warmup\":{\"ids\":[\"3\"],\"url\":\"file:src/test/resources/WarmUpIds.json\"," +
+                "\"parallelism\":2}}}";
+        config.init(subject, "sadis-warmup-test", mapper.readTree(warmUpConfig), mapper, delegate);
+        configListener.event(event);
+
+        InformationAdapter<?, ?> subscriberService = (InformationAdapter<?, ?>) sadis.getSubscriberInfoService();
+        assertEquals(Integer.valueOf(2), subscriberService.warmUp(sadis.cfgService).get(10, TimeUnit.SECONDS));
+        assertTrue(checkEquality(entry3, subscriberService.getfromCache(ID3)));
+        assertTrue(checkEquality(entry4, subscriberService.getfromCache(ID4)));
+        assertNull(subscriberService.getfromCache("unknown"));
+    }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        Files.deleteIfExists(Paths.get("target", "sadis-test.snapshot"));
+        String snapshotConfig = "{\"integration\":{\"url\":\"file:src/test/resources/%s\"," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"," +
+                "\"snapshot\":{\"interval\":\"PT1h\",\"file\":\"target/sadis-test.snapshot\"}}}}";
+        config.init(subject, "sadis-snapshot-test", mapper.readTree(snapshotConfig), mapper, delegate);
+        configListener.event(event);
+
+        SubscriberManager subscriberService = (SubscriberManager) sadis.getSubscriberInfoService();
+        checkGetForExisting(ID3, entry3, subscriberService);
+        subscriberService.writeSnapshot();
+
+        // a restarted instance starts with the entries of the snapshot in its cache
+        SubscriberManager restarted = new SubscriberManager(subject);
+        restarted.configure((SubscriberAndDeviceInformationConfig) config);
+        assertTrue(checkEquality(entry3, restarted.getfromCache(ID3)));
+        assertEquals(ID3, restarted.getByCircuitId("circuit567").iterator().next().id());
+        restarted.shutdown();
+    }
+
+    @Test
+    public void testDistributedCache() throws Exception {
+        String distributedConfig = "{\"integration\":{\"url\":\"%s\"," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\",\"distributed\":true}}}";
+        config.init(subject, "sadis-distributed-test", mapper.readTree(
+                String.format(distributedConfig, "file:src/test/resources/%s")), mapper, delegate);
+        configListener.event(event);
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+
+        // another instance of the cluster, whose URL knows nothing
+        SubscriberAndDeviceInformationConfig otherConfig = new SubscriberAndDeviceInformationConfig();
+        otherConfig.init(subject, "sadis-distributed-test", mapper.readTree(
+                String.format(distributedConfig, "file:src/test/resources/missing/%s")), mapper, delegate);
+        SubscriberManager other = new SubscriberManager(subject);
+        other.setStorageService(storageService);
+        other.configure(otherConfig);
+
+        // a fetch on one instance populates the others
+        checkGetForExisting(ID3, entry3, subscriberService);
+        assertNull(other.getfromCache(ID3));
+        assertTrue(checkEquality(entry3, other.get(ID3)));
+        assertTrue(checkEquality(entry3, other.getfromCache(ID3)));
+
+        // an invalidation on one instance propagates to the others
+        other.invalidateId(ID3);
+        assertNull(subscriberService.getfromCache(ID3));
+        assertNull(other.get(ID3));
+        other.shutdown();
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        subscriberService.get(ID1);
+        subscriberService.get(ID1);
+        subscriberService.get("unknown");
+
+        InformationStatistics stats = subscriberService.getStatistics();
+        assertEquals(1, stats.size());
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.localHitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(0, stats.remoteFetchCount());
+
+        String negativeConfig = "{\"integration\":{\"url\":\"file:src/test/resources/%s\"," +
+                "\"cache\":{\"maxsize\":1,\"ttl\":\"PT1m\",\"negative\":{\"maxsize\":10,\"ttl\":\"PT1m\"}}}}";
+        config.init(subject, "sadis-stats-test", mapper.readTree(negativeConfig), mapper, delegate);
+        configListener.event(event);
+        subscriberService.get(ID3);
+        subscriberService.get(ID4);
+        subscriberService.get("unknown");
+        subscriberService.get("unknown");
+
+        stats = subscriberService.getStatistics();
+        assertEquals(3, stats.remoteFetchCount());
+        assertEquals(1, stats.negativeHitCount());
+        assertEquals(1, stats.evictionCount());
+        assertEquals(0, stats.remoteFailureCount());
+    }
+
+    private Set<String> ids(Set<SubscriberAndDeviceInformation> entries) {
+        return entries.stream().map(SubscriberAndDeviceInformation::id).collect(Collectors.toSet());
+    }
+
     private void checkGetForNonExist(String id, BaseInformationService service) {
         BaseInformation entry = service.get(id);
         assertNull(entry);
     }
 
+    @Test
+    public void testOffHeapCache() throws Exception {
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        String offHeapConfig = "{\"integration\":{\"url\":\"file:src/test/resources/%s\"," +
+                "\"cache\":{\"maxsize\":1,\"ttl\":\"PT1m\",\"offheap\":{\"capacity\":65536}}}}";
+        config.init(subject, "sadis-offheap-test", mapper.readTree(offHeapConfig), mapper, delegate);
+        configListener.event(event);
+
+        // the entries evicted from the cache are found off-heap instead of being fetched again
+        subscriberService.get(ID3);
+        subscriberService.get(ID4);
+        assertNull(subscriberService.getfromCache(ID3));
+        assertTrue(checkEquality(entry3, subscriberService.get(ID3)));
+        assertTrue(checkEquality(entry3, subscriberService.getfromCache(ID3)));
+
+        InformationStatistics stats = subscriberService.getStatistics();
+        assertEquals(2, stats.remoteFetchCount());
+        assertEquals(1, stats.offHeapHitCount());
+
+        subscriberService.invalidateAll();
+        subscriberService.get(ID4);
+        assertEquals(3, subscriberService.getStatistics().remoteFetchCount());
+
+        // the expired entries are swept from the off-heap cache and reported as evicted
+        List<SadisEvent> events = Lists.newArrayList();
+        sadis.addListener(events::add);
+        subscriberService.get(ID3);
+        events.clear();
+        ticker.advance(61, TimeUnit.SECONDS);
+        assertEquals(1, ((SubscriberManager) subscriberService).sweepOffHeap());
+        assertEquals(1, events.size());
+        assertEquals(SadisEvent.Type.EVICTED, events.get(0).type());
+        assertEquals(ID4, events.get(0).subject().id());
+        assertEquals(0, ((SubscriberManager) subscriberService).sweepOffHeap());
+    }
+
     @Test
     public void testRemoteMode() throws Exception {
 
@@ -104,6 +488,370 @@ public class SubscriberAndDeviceManagerTest extends BaseSadis {
         checkFromBoth(ID4, entry4, subscriberService);
     }
 
+    @Test
+    public void testConcurrentRemoteGet() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        String url = startRemoteServer(exchange -> {
+            requests.incrementAndGet();
+            try {
+                // keep the request in flight until all the callers asked for the entry
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respondWithResource(exchange);
+        });
+
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        String remoteConfig = "{\"integration\":{\"url\":\"" + url + "\"," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"}}}";
+        config.init(subject, "sadis-concurrent-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<SubscriberAndDeviceInformation>> results = Lists.newArrayList();
+            for (int i = 0; i < callers; i++) {
+                Callable<SubscriberAndDeviceInformation> lookup = () -> {
+                    start.await();
+                    return subscriberService.get(ID3);
+                };
+                results.add(executor.submit(lookup));
+            }
+            start.countDown();
+
+            for (Future<SubscriberAndDeviceInformation> result : results) {
+                assertTrue(checkEquality(entry3, result.get()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(checkEquality(entry3, subscriberService.getfromCache(ID3)));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testAsyncRemoteGet() throws Exception {
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        config.init(subject, "sadis-remote-mode-test", node("/RemoteConfig.json"), mapper, delegate);
+        configListener.event(event);
+
+        CompletableFuture<SubscriberAndDeviceInformation> remote = subscriberService.getAsync(ID3);
+        assertTrue(checkEquality(entry3, remote.get(5, TimeUnit.SECONDS)));
+
+        // served from the cache without waiting on the fetch executor
+        CompletableFuture<SubscriberAndDeviceInformation> cached = subscriberService.getAsync(ID3);
+        assertTrue(cached.isDone());
+        assertTrue(checkEquality(entry3, cached.get()));
+
+        assertNull(subscriberService.getAsync("non-existent").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testHttpRemoteMode() throws Exception {
+        String url = startRemoteServer(exchange -> {
+            if (requestedId(exchange).equals("error")) {
+                respond(exchange, 500, null);
+            } else {
+                respondWithResource(exchange);
+            }
+        });
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        String remoteConfig = "{\"integration\":{\"url\":\"" + url + "\",\"connectTimeout\":\"PT1S\"," +
+                "\"readTimeout\":\"PT1S\",\"maxConnectionsPerHost\":2," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"}}}";
+        config.init(subject, "sadis-http-mode-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+
+        checkGetForExisting(ID3, entry3, subscriberService);
+        checkGetForExisting(ID4, entry4, subscriberService);
+        checkGetForNonExist("non-existent", subscriberService);
+        checkGetForNonExist("error", subscriberService);
+    }
+
+    @Test
+    public void testCompressedRemoteMode() throws Exception {
+        AtomicReference<String> acceptEncoding = new AtomicReference<>();
+        String url = startRemoteServer(exchange -> {
+            String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            acceptEncoding.set(accepted);
+            if (accepted == null) {
+                respondWithResource(exchange);
+                return;
+            }
+            // gzip for the first subscriber, raw deflate data for the other one
+            String id = requestedId(exchange);
+            boolean gzip = id.equals(ID3);
+            exchange.getResponseHeaders().set("Content-Encoding", gzip ? "gzip" : "deflate");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = gzip ? new GZIPOutputStream(exchange.getResponseBody()) :
+                    new DeflaterOutputStream(exchange.getResponseBody(), new Deflater(6, true))) {
+                out.write(resource(id));
+            }
+            exchange.close();
+        });
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        String remoteConfig = "{\"integration\":{\"url\":\"" + url + "\",\"compression\":\"deflate\"," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"}}}";
+        config.init(subject, "sadis-compressed-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+
+        checkGetForExisting(ID3, entry3, subscriberService);
+        checkGetForExisting(ID4, entry4, subscriberService);
+        assertEquals("deflate, gzip;q=0.5", acceptEncoding.get());
+
+        subscriberService.invalidateAll();
+        remoteConfig = remoteConfig.replace("deflate", "none");
+        config.init(subject, "sadis-compressed-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+
+        checkGetForExisting(ID3, entry3, subscriberService);
+        assertNull(acceptEncoding.get());
+    }
+
+    @Test
+    public void testStalledResponse() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        String url = startRemoteServer(exchange -> {
+            String id = requestedId(exchange);
+            byte[] body = resource(id);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                if (id.equals(ID3)) {
+                    // send half of the body and stall until the test completed
+                    out.write(body, 0, body.length / 2);
+                    out.flush();
+                    stalled.await();
+                }
+                out.write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // the client gave up on the stalled response
+            }
+            exchange.close();
+        });
+        try {
+            BaseInformationService<SubscriberAndDeviceInformation> subscriberService =
+                    sadis.getSubscriberInfoService();
+            String remoteConfig = "{\"integration\":{\"url\":\"" + url + "\",\"readTimeout\":\"PT0.3S\"," +
+                    "\"maxConnectionsPerHost\":1,\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"}}}";
+            config.init(subject, "sadis-stalled-test", mapper.readTree(remoteConfig), mapper, delegate);
+            configListener.event(event);
+
+            // the stalled body is given up on after the read timeout, and its connection permit released
+            checkGetForNonExist(ID3, subscriberService);
+            checkGetForExisting(ID4, entry4, subscriberService);
+        } finally {
+            stalled.countDown();
+        }
+
+        String invalidConfig = "{\"integration\":{\"maxConnectionsPerHost\":0}}";
+        config.init(subject, "sadis-stalled-test", mapper.readTree(invalidConfig), mapper, delegate);
+        assertFalse(config.isValid());
+    }
+
+    @Test
+    public void testCircuitBreaker() throws Exception {
+        AtomicBoolean down = new AtomicBoolean(true);
+        AtomicInteger requests = new AtomicInteger();
+        String url = startRemoteServer(exchange -> {
+            requests.incrementAndGet();
+            if (down.get()) {
+                respond(exchange, 500, null);
+            } else if (requestedId(exchange).equals("forbidden")) {
+                respond(exchange, 403, null);
+            } else {
+                respondWithResource(exchange);
+            }
+        });
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        String remoteConfig = "{\"integration\":{\"url\":\"" + url + "\"," +
+                "\"retry\":{\"attempts\":1,\"backoff\":\"PT0.01S\"}," +
+                "\"circuitBreaker\":{\"failures\":2,\"resetTimeout\":\"PT0.2S\"}," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"}}}";
+        config.init(subject, "sadis-circuit-breaker-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+
+        // synchronous lookups are not retried, the second failed lookup opens the circuit
+        checkGetForNonExist(ID3, subscriberService);
+        checkGetForNonExist(ID4, subscriberService);
+        assertEquals(2, requests.get());
+        checkGetForNonExist(ID3, subscriberService);
+        assertEquals(2, requests.get());
+
+        // once the reset timeout elapsed a probe closes the circuit again
+        down.set(false);
+        ticker.advance(300, TimeUnit.MILLISECONDS);
+        checkGetForExisting(ID3, entry3, subscriberService);
+        checkGetForExisting(ID4, entry4, subscriberService);
+        assertEquals(4, requests.get());
+
+        // rejected requests are neither retried nor failures opening the circuit
+        checkGetForNonExist("forbidden", subscriberService);
+        checkGetForNonExist("forbidden", subscriberService);
+        assertEquals(6, requests.get());
+        subscriberService.invalidateId(ID3);
+        checkGetForExisting(ID3, entry3, subscriberService);
+        assertEquals(7, requests.get());
+
+        // asynchronous lookups are retried once
+        down.set(true);
+        subscriberService.invalidateId(ID4);
+        assertNull(subscriberService.getAsync(ID4).get(5, TimeUnit.SECONDS));
+        assertEquals(9, requests.get());
+    }
+
+    @Test
+    public void testCircuitBreakerUnexpectedFailure() throws Exception {
+        AtomicBoolean down = new AtomicBoolean(true);
+        AtomicBoolean corrupt = new AtomicBoolean(false);
+        SubscriberManager subscriberService = new SubscriberManager(subject, ticker) {
+            @Override
+            protected RemoteFetcher createRemoteFetcher(Duration connectTimeout, Duration readTimeout,
+                                                        int maxConnectionsPerHost, String compression) {
+                return url -> {
+                    if (down.get()) {
+                        throw new IOException("Remote URL down");
+                    }
+                    if (corrupt.get()) {
+                        // a body the parser fails on with a runtime exception rather than a parse error
+                        return new InputStream() {
+                            @Override
+                            public int read() {
+                                throw new IllegalStateException("Corrupt body");
+                            }
+                        };
+                    }
+                    return Files.newInputStream(Paths.get(url.substring("file:".length())));
+                };
+            }
+        };
+        try {
+            String remoteConfig = "{\"integration\":{\"url\":\"file:src/test/resources/%s\"," +
+                    "\"circuitBreaker\":{\"failures\":1,\"resetTimeout\":\"PT0.2S\"}," +
+                    "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"}}}";
+            config.init(subject, "sadis-circuit-breaker-test", mapper.readTree(remoteConfig), mapper, delegate);
+            subscriberService.configure((SubscriberAndDeviceInformationConfig) config);
+
+            // the failed request opens the circuit, the probe sent after the reset timeout fails unexpectedly
+            checkGetForNonExist(ID3, subscriberService);
+            down.set(false);
+            corrupt.set(true);
+            ticker.advance(300, TimeUnit.MILLISECONDS);
+            checkGetForNonExist(ID3, subscriberService);
+
+            // the failed probe opened the circuit again, so the next probe is let through
+            corrupt.set(false);
+            checkGetForNonExist(ID3, subscriberService);
+            ticker.advance(300, TimeUnit.MILLISECONDS);
+            checkGetForExisting(ID3, entry3, subscriberService);
+        } finally {
+            subscriberService.shutdown();
+        }
+    }
+
+    @Test
+    public void testServeStale() throws Exception {
+        AtomicBoolean down = new AtomicBoolean(false);
+        String url = startRemoteServer(exchange -> {
+            if (down.get()) {
+                respond(exchange, 503, null);
+            } else {
+                respondWithResource(exchange);
+            }
+        });
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        String remoteConfig = "{\"integration\":{\"url\":\"" + url + "\"," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1S\",\"stale\":{\"maxsize\":10}}}}";
+        config.init(subject, "sadis-stale-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+        checkGetForExisting(ID3, entry3, subscriberService);
+
+        // the entry expires while the remote URL is down and keeps being served
+        down.set(true);
+        ticker.advance(1100, TimeUnit.MILLISECONDS);
+        checkGetForExisting(ID3, entry3, subscriberService);
+        checkGetForNonExist(ID4, subscriberService);
+        assertNull(subscriberService.getfromCache(ID3));
+        assertEquals(1, subscriberService.getStatistics().staleHitCount());
+
+        // once the remote URL is back the entry is fetched again
+        down.set(false);
+        checkGetForExisting(ID3, entry3, subscriberService);
+        assertEquals(1, subscriberService.getStatistics().staleHitCount());
+    }
+
+    @Test
+    public void testUnknownProperties() throws Exception {
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        String remoteConfig = "{\"integration\":{\"url\":\"file:src/test/resources/%%s\",%s" +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"}}}";
+
+        // unknown properties are ignored by default
+        config.init(subject, "sadis-unknown-test", mapper.readTree(String.format(remoteConfig, "")),
+                    mapper, delegate);
+        configListener.event(event);
+        SubscriberAndDeviceInformation info = subscriberService.get("withUnknownProperty");
+        assertEquals("circuit567", info.circuitId());
+        assertEquals("HSIA", info.uniTagList().get(0).getServiceName());
+
+        // and rejected when strict
+        config.init(subject, "sadis-unknown-test", mapper.readTree(String.format(remoteConfig,
+                "\"strict\":true,")), mapper, delegate);
+        configListener.event(event);
+        subscriberService.invalidateAll();
+        checkGetForNonExist("withUnknownProperty", subscriberService);
+        checkGetForExisting(ID3, entry3, subscriberService);
+    }
+
+    @Test
+    public void testNegativeCache() throws Exception {
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        String remoteConfig = "{\"integration\":{\"url\":\"" + remoteFolder.getRoot().toURI() + "%s\"," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\"," +
+                "\"negative\":{\"maxsize\":10,\"ttl\":\"PT1m\"}}}}";
+        config.init(subject, "sadis-negative-cache-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+
+        checkGetForNonExist(ID3, subscriberService);
+
+        // the entry appears remotely but the miss is still remembered
+        Files.copy(Paths.get("src/test/resources", ID3), remoteFolder.getRoot().toPath().resolve(ID3));
+        checkGetForNonExist(ID3, subscriberService);
+        assertNull(subscriberService.getAsync(ID3).get(5, TimeUnit.SECONDS));
+
+        invalidateId(ID3, subscriberService);
+        checkGetForExisting(ID3, entry3, subscriberService);
+    }
+
+    @Test
+    public void testRefreshAhead() throws Exception {
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        String remoteConfig = "{\"integration\":{\"url\":\"" + remoteFolder.getRoot().toURI() + "%s\"," +
+                "\"cache\":{\"maxsize\":50,\"ttl\":\"PT1m\",\"refresh\":\"PT1S\"}}}";
+        config.init(subject, "sadis-refresh-test", mapper.readTree(remoteConfig), mapper, delegate);
+        configListener.event(event);
+
+        Path remoteEntry = remoteFolder.getRoot().toPath().resolve(ID3);
+        Files.copy(Paths.get("src/test/resources", ID3), remoteEntry);
+        checkGetForExisting(ID3, entry3, subscriberService);
+
+        // once the refresh interval has passed the next lookup is served from
+        // the cache and triggers a background reload of the updated entry
+        Files.copy(Paths.get("src/test/resources", ID4), remoteEntry, StandardCopyOption.REPLACE_EXISTING);
+        ticker.advance(1100, TimeUnit.MILLISECONDS);
+        checkGetForExisting(ID3, null, subscriberService);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!ID4.equals(subscriberService.get(ID3).id()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(checkEquality(entry4, subscriberService.get(ID3)));
+    }
+
     @Test
     public void testModeSwitch() throws Exception {
         BaseInformationService<SubscriberAndDeviceInformation> service = sadis.getSubscriberInfoService();
@@ -139,6 +887,25 @@ public class SubscriberAndDeviceManagerTest extends BaseSadis {
         checkGetForExisting(ID2, entry2, subscriberService);
     }
 
+    @Test
+    public void testGetAllHybridMode() throws Exception {
+        BaseInformationService<SubscriberAndDeviceInformation> subscriberService = sadis.getSubscriberInfoService();
+        config.init(subject, "sadis-hybrid-mode-test", node("/HybridSubConfig.json"), mapper, delegate);
+        configListener.event(event);
+
+        Map<String, SubscriberAndDeviceInformation> entries =
+                subscriberService.getAll(Lists.newArrayList(ID1, ID2, ID3, ID4, "non-existent"));
+        assertEquals(4, entries.size());
+        assertTrue(checkEquality(entry1, entries.get(ID1)));
+        assertTrue(checkEquality(entry2, entries.get(ID2)));
+        assertTrue(checkEquality(entry3, entries.get(ID3)));
+        assertTrue(checkEquality(entry4, entries.get(ID4)));
+
+        // remote entries have been cached as part of the bulk lookup
+        assertTrue(checkEquality(entry3, subscriberService.getfromCache(ID3)));
+        assertTrue(checkEquality(entry4, subscriberService.getfromCache(ID4)));
+    }
+
     public boolean checkEquality(BaseInformation localEntry, BaseInformation entry) {
         SubscriberAndDeviceInformation sub = (SubscriberAndDeviceInformation) localEntry;
         SubscriberAndDeviceInformation other = (SubscriberAndDeviceInformation) entry;
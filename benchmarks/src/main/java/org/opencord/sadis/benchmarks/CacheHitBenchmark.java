@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.benchmarks;
+
+import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.impl.SubscriberManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of cache hits on the subscriber service when many
+ * threads look up information concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheHitBenchmark {
+
+    private static final int ENTRIES = 1000;
+
+    private SubscriberManager subscriberManager;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        ids = new String[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            ids[i] = SubscriberFixture.id(i);
+        }
+
+        subscriberManager = new SubscriberManager(SubscriberFixture.APP_ID);
+        subscriberManager.configure(SubscriberFixture.config(ENTRIES, ENTRIES, null));
+        for (String id : ids) {
+            subscriberManager.get(id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        subscriberManager.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SubscriberAndDeviceInformation getHitSingleThread() {
+        return subscriberManager.get(ids[ThreadLocalRandom.current().nextInt(ENTRIES)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public SubscriberAndDeviceInformation getHitEightThreads() {
+        return subscriberManager.get(ids[ThreadLocalRandom.current().nextInt(ENTRIES)]);
+    }
+}
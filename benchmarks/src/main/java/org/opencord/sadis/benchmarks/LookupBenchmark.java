@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.benchmarks;
+
+import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.impl.SubscriberManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of lookups answered by the cache, by the locally
+ * configured entries, held as objects or compactly, and of lookups for
+ * unknown IDs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LookupBenchmark {
+
+    private static final int ENTRIES = 10000;
+
+    // caches every entry, so lookups are answered by the cache
+    private SubscriberManager cached;
+    // caches nothing, so lookups fall through to the local configuration
+    private SubscriberManager uncached;
+    // same as uncached, with the local configuration held compactly
+    private SubscriberManager compact;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        ids = new String[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            ids[i] = SubscriberFixture.id(i);
+        }
+
+        cached = new SubscriberManager(SubscriberFixture.APP_ID);
+        cached.configure(SubscriberFixture.config(ENTRIES, ENTRIES, null));
+        for (String id : ids) {
+            cached.get(id);
+        }
+
+        uncached = new SubscriberManager(SubscriberFixture.APP_ID);
+        uncached.configure(SubscriberFixture.config(ENTRIES, 0, null));
+
+        compact = new SubscriberManager(SubscriberFixture.APP_ID);
+        compact.configure(SubscriberFixture.config(ENTRIES, 0, null, true));
+    }
+
+    @TearDown
+    public void tearDown() {
+        cached.shutdown();
+        uncached.shutdown();
+        compact.shutdown();
+    }
+
+    @Benchmark
+    public SubscriberAndDeviceInformation getCacheHit() {
+        return cached.get(ids[ThreadLocalRandom.current().nextInt(ENTRIES)]);
+    }
+
+    @Benchmark
+    public SubscriberAndDeviceInformation getLocalConfig() {
+        return uncached.get(ids[ThreadLocalRandom.current().nextInt(ENTRIES)]);
+    }
+
+    @Benchmark
+    public SubscriberAndDeviceInformation getLocalConfigCompact() {
+        return compact.get(ids[ThreadLocalRandom.current().nextInt(ENTRIES)]);
+    }
+
+    @Benchmark
+    public SubscriberAndDeviceInformation getMiss() {
+        return cached.get(SubscriberFixture.id(ENTRIES + ThreadLocalRandom.current().nextInt(ENTRIES)));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.impl.SubscriberManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups served by the remote URL, against a local HTTP stub that
+ * answers every subscriber ID below {@link #ENTRIES} and 404 otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// without TCP_NODELAY the stub's split header/body writes hit delayed ACKs
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class RemoteFetchBenchmark {
+
+    private static final int ENTRIES = 1000;
+    private static final String PREFIX = "/subscribers/";
+
+    private HttpServer server;
+    private byte[][] bodies;
+    // caches nothing, so every lookup goes to the remote URL
+    private SubscriberManager subscriberManager;
+
+    @Setup
+    public void setUp() throws IOException {
+        bodies = new byte[ENTRIES][];
+        for (int i = 0; i < ENTRIES; i++) {
+            bodies[i] = SubscriberFixture.MAPPER.writeValueAsBytes(SubscriberFixture.subscriber(i));
+        }
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext(PREFIX, exchange -> {
+            int index = index(exchange.getRequestURI().getPath().substring(PREFIX.length()));
+            if (index >= 0 && index < ENTRIES) {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bodies[index].length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bodies[index]);
+                }
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+            exchange.close();
+        });
+        server.start();
+
+        String url = "http://" + server.getAddress().getHostString() + ":" +
+                server.getAddress().getPort() + PREFIX + "%s";
+        subscriberManager = new SubscriberManager(SubscriberFixture.APP_ID);
+        subscriberManager.configure(SubscriberFixture.config(0, 0, url));
+    }
+
+    @TearDown
+    public void tearDown() {
+        subscriberManager.shutdown();
+        server.stop(0);
+    }
+
+    private static int index(String id) {
+        try {
+            return Integer.parseInt(id.substring(4, 12));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public SubscriberAndDeviceInformation getRemote() {
+        return subscriberManager.get(SubscriberFixture.id(ThreadLocalRandom.current().nextInt(ENTRIES)));
+    }
+
+    @Benchmark
+    public SubscriberAndDeviceInformation getRemoteNotFound() {
+        return subscriberManager.get(SubscriberFixture.id(ENTRIES + ThreadLocalRandom.current().nextInt(ENTRIES)));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.MacAddress;
+import org.onlab.util.KryoNamespace;
+import org.onosproject.codec.CodecContext;
+import org.onosproject.codec.JsonCodec;
+import org.onosproject.store.serializers.KryoNamespaces;
+import org.opencord.sadis.SubscriberAndDeviceInformation;
+import org.opencord.sadis.UniTagInformation;
+import org.opencord.sadis.impl.SubscriberAndDeviceInformationBinaryCodec;
+import org.opencord.sadis.impl.SubscriberAndDeviceInformationCodec;
+import org.opencord.sadis.impl.UniTagInformationCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding subscriber information with the JSON codec,
+ * with the binary codec and with the default Kryo serialization of its
+ * fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubscriberCodecBenchmark {
+
+    private final SubscriberAndDeviceInformationCodec jsonCodec = new SubscriberAndDeviceInformationCodec();
+    private final SubscriberAndDeviceInformationBinaryCodec binaryCodec =
+            new SubscriberAndDeviceInformationBinaryCodec();
+    private final KryoNamespace kryo = KryoNamespace.newBuilder()
+            .register(KryoNamespaces.API)
+            .register(SubscriberAndDeviceInformation.class, UniTagInformation.class)
+            .build();
+    private final CodecContext context = new BenchmarkCodecContext();
+
+    private SubscriberAndDeviceInformation info;
+    private byte[] json;
+    private byte[] binary;
+    private byte[] kryoFields;
+
+    @Setup
+    public void setUp() throws IOException {
+        info = SubscriberFixture.config(1, 0, null).getEntries().get(0);
+        // the JSON codec always writes these, and cannot read them back empty
+        info.setHardwareIdentifier(MacAddress.valueOf("aa:bb:cc:dd:ee:ff"));
+        info.setIPAddress(Ip4Address.valueOf("10.0.0.1"));
+        json = context.mapper().writeValueAsBytes(jsonCodec.encode(info, context));
+        binary = binaryCodec.encode(info);
+        kryoFields = kryo.serialize(info);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return context.mapper().writeValueAsBytes(jsonCodec.encode(info, context));
+    }
+
+    @Benchmark
+    public SubscriberAndDeviceInformation decodeJson() throws IOException {
+        return jsonCodec.decode((ObjectNode) context.mapper().readTree(json), context);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binaryCodec.encode(info);
+    }
+
+    @Benchmark
+    public SubscriberAndDeviceInformation decodeBinary() {
+        return binaryCodec.decode(binary);
+    }
+
+    @Benchmark
+    public byte[] encodeKryoFields() {
+        return kryo.serialize(info);
+    }
+
+    @Benchmark
+    public SubscriberAndDeviceInformation decodeKryoFields() {
+        return kryo.deserialize(kryoFields);
+    }
+
+    private static final class BenchmarkCodecContext implements CodecContext {
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final UniTagInformationCodec uniTagCodec = new UniTagInformationCodec();
+
+        @Override
+        public ObjectMapper mapper() {
+            return mapper;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> JsonCodec<T> codec(Class<T> entityClass) {
+            return entityClass == UniTagInformation.class ? (JsonCodec<T>) uniTagCodec : null;
+        }
+
+        @Override
+        public <T> T getService(Class<T> serviceClass) {
+            return null;
+        }
+    }
+}
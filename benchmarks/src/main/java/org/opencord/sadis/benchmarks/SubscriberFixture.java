@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.onosproject.core.ApplicationId;
+import org.onosproject.core.DefaultApplicationId;
+import org.opencord.sadis.impl.SubscriberAndDeviceInformationConfig;
+
+/**
+ * Builds synthetic subscriber configurations for the benchmarks.
+ */
+final class SubscriberFixture {
+
+    static final ApplicationId APP_ID = new DefaultApplicationId(1, "org.opencord.sadis");
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SubscriberFixture() {
+    }
+
+    /**
+     * Returns the ID of the given subscriber.
+     *
+     * @param index subscriber index
+     * @return subscriber ID
+     */
+    static String id(int index) {
+        return "BBSM" + String.format("%08d", index) + "-1";
+    }
+
+    /**
+     * Builds the JSON description of the given subscriber.
+     *
+     * @param index subscriber index
+     * @return subscriber JSON
+     */
+    static ObjectNode subscriber(int index) {
+        ObjectNode entry = MAPPER.createObjectNode()
+                .put("id", id(index))
+                .put("nasPortId", id(index))
+                .put("circuitId", "circuit" + index)
+                .put("remoteId", "remote" + index);
+        entry.putArray("uniTagList").addObject()
+                .put("ponCTag", 2 + index % 4000)
+                .put("ponSTag", 2 + index / 4000 % 4000)
+                .put("usPonCTagPriority", 0)
+                .put("dsPonCTagPriority", 0)
+                .put("technologyProfileId", 64)
+                .put("upstreamBandwidthProfile", "HSA")
+                .put("downstreamBandwidthProfile", "HSA")
+                .put("serviceName", "HSIA");
+        return entry;
+    }
+
+    /**
+     * Builds a subscriber configuration.
+     *
+     * @param entries   number of locally configured subscribers
+     * @param cacheSize maximum number of cached subscribers
+     * @param url       remote URL, or null for none
+     * @return subscriber configuration
+     */
+    static SubscriberAndDeviceInformationConfig config(int entries, int cacheSize, String url) {
+        return config(entries, cacheSize, url, false);
+    }
+
+    /**
+     * Builds a subscriber configuration.
+     *
+     * @param entries   number of locally configured subscribers
+     * @param cacheSize maximum number of cached subscribers
+     * @param url       remote URL, or null for none
+     * @param compact   whether the locally configured subscribers are held compactly
+     * @return subscriber configuration
+     */
+    static SubscriberAndDeviceInformationConfig config(int entries, int cacheSize, String url, boolean compact) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("compactEntries", compact);
+        ObjectNode integration = root.putObject("integration");
+        if (url != null) {
+            integration.put("url", url);
+        }
+        integration.putObject("cache")
+                .put("maxsize", cacheSize)
+                .put("ttl", "PT1H");
+        ArrayNode list = root.putArray("entries");
+        for (int i = 0; i < entries; i++) {
+            list.add(subscriber(i));
+        }
+
+        SubscriberAndDeviceInformationConfig config = new SubscriberAndDeviceInformationConfig();
+        config.init(APP_ID, "sadis", root, MAPPER, c -> { });
+        return config;
+    }
+}
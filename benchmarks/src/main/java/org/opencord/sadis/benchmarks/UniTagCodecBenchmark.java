@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Open Networking Foundation (ONF) and the ONF Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencord.sadis.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.onlab.packet.VlanId;
+import org.onosproject.codec.CodecContext;
+import org.onosproject.codec.JsonCodec;
+import org.opencord.sadis.UniTagInformation;
+import org.opencord.sadis.impl.UniTagInformationCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding UNI tag information to and from JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UniTagCodecBenchmark {
+
+    private final UniTagInformationCodec codec = new UniTagInformationCodec();
+    private final CodecContext context = new BenchmarkCodecContext();
+
+    private UniTagInformation uniTag;
+    private ObjectNode json;
+
+    @Setup
+    public void setUp() {
+        uniTag = new UniTagInformation.Builder()
+                .setUniTagMatch(VlanId.vlanId((short) 100))
+                .setPonCTag(VlanId.vlanId((short) 2))
+                .setPonSTag(VlanId.vlanId((short) 2))
+                .setUsPonCTagPriority(0)
+                .setUsPonSTagPriority(1)
+                .setDsPonCTagPriority(0)
+                .setDsPonSTagPriority(1)
+                .setTechnologyProfileId(64)
+                .setUpstreamBandwidthProfile("HSA")
+                .setDownstreamBandwidthProfile("HSA")
+                .setServiceName("HSIA")
+                .build();
+        json = codec.encode(uniTag, context);
+    }
+
+    @Benchmark
+    public ObjectNode encode() {
+        return codec.encode(uniTag, context);
+    }
+
+    @Benchmark
+    public UniTagInformation decode() {
+        return codec.decode(json, context);
+    }
+
+    private static final class BenchmarkCodecContext implements CodecContext {
+        private final ObjectMapper mapper = new ObjectMapper();
+
+        @Override
+        public ObjectMapper mapper() {
+            return mapper;
+        }
+
+        @Override
+        public <T> JsonCodec<T> codec(Class<T> entityClass) {
+            return null;
+        }
+
+        @Override
+        public <T> T getService(Class<T> serviceClass) {
+            return null;
+        }
+    }
+}